@@ -0,0 +1,61 @@
+package org.scoreboard.loadgen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares every window of a soak run with the first window after warm-up and reports a drift once the
+ * configured number of consecutive windows exceed the thresholds.
+ */
+public class DriftDetector {
+    private static final double MIN_GC_TIME_RATIO = 0.05;
+    private static final long MIN_P99_NANOS = 10_000;
+
+    private final LoadGeneratorConfig config;
+    private SoakWindow baseline;
+    private int consecutiveViolations;
+    private List<String> lastViolations = List.of();
+
+    public DriftDetector(LoadGeneratorConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns {@code true} when the run drifted and should fail.
+     */
+    public boolean observe(SoakWindow window) {
+        if (baseline == null) {
+            baseline = window;
+            return false;
+        }
+        lastViolations = violations(window);
+        consecutiveViolations = lastViolations.isEmpty() ? 0 : consecutiveViolations + 1;
+        return consecutiveViolations >= config.toleratedViolations();
+    }
+
+    public List<String> getLastViolations() {
+        return lastViolations;
+    }
+
+    private List<String> violations(SoakWindow window) {
+        var violations = new ArrayList<String>();
+        var heapLimit = baseline.resources().heapUsedAfterGcBytes() * (1 + config.maxHeapGrowth());
+        if (window.resources().heapUsedAfterGcBytes() > heapLimit) {
+            violations.add("heap used after GC %dMB exceeds %dMB".formatted(
+                    window.resources().heapUsedAfterGcBytes() / (1024 * 1024), (long) heapLimit / (1024 * 1024)));
+        }
+        var latencyLimit = Math.max(MIN_P99_NANOS, baseline.summaryLatency().p99Nanos()) * config.maxLatencyGrowth();
+        if (window.summaryLatency().p99Nanos() > latencyLimit) {
+            violations.add("summary p99 %dus exceeds %dus".formatted(window.summaryLatency().p99Nanos() / 1_000, (long) latencyLimit / 1_000));
+        }
+        var gcLimit = Math.max(MIN_GC_TIME_RATIO, baseline.gcTimeRatio() * config.maxLatencyGrowth());
+        if (window.gcTimeRatio() > gcLimit) {
+            violations.add("GC time %.1f%% exceeds %.1f%%".formatted(window.gcTimeRatio() * 100, gcLimit * 100));
+        }
+        var throughputLimit = baseline.summaryThroughput() * (1 - config.maxThroughputDrop());
+        if (window.summaryThroughput() < throughputLimit) {
+            violations.add("summary throughput %.0f/s below %.0f/s".formatted(window.summaryThroughput(), throughputLimit));
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,90 @@
+package org.scoreboard.loadgen;
+
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.service.WorldCupScoreboard;
+import org.scoreboard.time.ManualMatchClock;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
+
+/**
+ * Process launched by {@link StartupBenchmark}: brings up a scoreboard holding the benchmark tournament by replaying
+ * every start, score update and finish or by importing the matches, then prints the time spent in {@code main} until
+ * the first default {@link WorldCupScoreboard#getSummary()} and exits.
+ */
+public class FirstSummaryProbe {
+    static final String LIVE_VIEW = "live";
+    static final String READY = "first-summary";
+    private static final int LIVE_MATCHES = 500;
+
+    public static void main(String[] args) {
+        var started = System.nanoTime();
+        var mode = args[0];
+        var repository = switch (mode) {
+            case "replay" -> replayTournament(Integer.parseInt(args[1]));
+            case "import" -> importTournament(Integer.parseInt(args[1]));
+            default -> throw new IllegalArgumentException("Unknown mode: %s, expected replay or import".formatted(mode));
+        };
+        var summary = new WorldCupScoreboard(repository, liveOrdering()).getSummary();
+        System.out.printf("%s matches=%d mainNanos=%d%n", READY, summary.size(), System.nanoTime() - started);
+    }
+
+    static InMemoryMatchRepository replayTournament(int finishedMatches) {
+        var repository = new InMemoryMatchRepository(finishedMatches + LIVE_MATCHES);
+        var scoreboard = new WorldCupScoreboard(repository, liveOrdering(), new ManualMatchClock(Instant.EPOCH))
+                .registerView(LIVE_VIEW, liveOrdering());
+        for (var match : tournament(finishedMatches)) {
+            var matchId = scoreboard.startMatch(match.getHomeTeam(), match.getAwayTeam()).getMatchId();
+            for (int goals = 1; goals <= match.getTotalScore(); goals++) {
+                scoreboard.updateScore(matchId, Math.min(goals, match.getHomeScore()), Math.max(0, goals - match.getHomeScore()));
+            }
+            if (match.isFinished()) {
+                scoreboard.finishMatch(matchId);
+            }
+        }
+        return repository;
+    }
+
+    static InMemoryMatchRepository importTournament(int finishedMatches) {
+        var repository = new InMemoryMatchRepository(finishedMatches + LIVE_MATCHES);
+        new WorldCupScoreboard(repository, liveOrdering())
+                .registerView(LIVE_VIEW, liveOrdering())
+                .importMatches(tournament(finishedMatches).stream());
+        return repository;
+    }
+
+    /**
+     * Deterministic tournament history: finished matches between 2,000 teams followed by live matches between
+     * teams of their own, so every process rebuilds the same state.
+     */
+    private static List<Match> tournament(int finishedMatches) {
+        var teams = IntStream.range(0, 2_000)
+                .mapToObj(i -> new Team("team-" + i, "Team " + i, "T" + i))
+                .toList();
+        var startTime = 1_710_064_800_000_000_000L;
+        var matches = new ArrayList<Match>(finishedMatches + LIVE_MATCHES);
+        for (int i = 0; i < finishedMatches; i++) {
+            matches.add(new Match("finished-" + i, teams.get(i % 1_000), teams.get(1_000 + i % 1_000),
+                    i % 5, i % 3, true, startTime + i * 1_000_000L, i));
+        }
+        for (int i = 0; i < LIVE_MATCHES; i++) {
+            matches.add(new Match("live-" + i, new Team("live-home-" + i, "Home " + i, "H" + i),
+                    new Team("live-away-" + i, "Away " + i, "A" + i), i % 7, i % 4, false,
+                    startTime + (finishedMatches + i) * 1_000_000L, finishedMatches + i));
+        }
+        return matches;
+    }
+
+    private static Comparator<MatchView> liveOrdering() {
+        return highestScoringMatchesFirst().thenComparing(mostRecentlyStartedMatchesFirst());
+    }
+}
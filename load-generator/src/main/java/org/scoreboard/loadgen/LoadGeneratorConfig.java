@@ -0,0 +1,80 @@
+package org.scoreboard.loadgen;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tournament schedule and soak-test thresholds. Every value can be overridden with a {@code --name=value}
+ * argument, durations use the ISO-8601 format, e.g. {@code --duration=PT4H}.
+ *
+ * @param scoreboard       {@code world-cup}, {@code caching} or the class name of a {@code Supplier<Scoreboard>}
+ * @param simulatedMinute  real time representing one minute of play, compresses a 90 minute match into seconds
+ * @param goalsPerMatch    expected goals per match, goals in every simulated minute are Poisson distributed
+ * @param maxHeapGrowth    tolerated growth of heap used after GC compared to the baseline window, 0.5 means +50%
+ * @param maxLatencyGrowth tolerated factor of p99 latency and GC time compared to the baseline window
+ * @param maxThroughputDrop tolerated drop of summary throughput compared to the baseline window, 0.5 means -50%
+ * @param toleratedViolations number of consecutive drifting windows which fail the run
+ */
+public record LoadGeneratorConfig(
+        String scoreboard,
+        Duration duration,
+        Duration warmup,
+        Duration reportInterval,
+        int teams,
+        int concurrentMatches,
+        int matchesPerDay,
+        int matchMinutes,
+        Duration simulatedMinute,
+        double goalsPerMatch,
+        int pollerThreads,
+        long seed,
+        double maxHeapGrowth,
+        double maxLatencyGrowth,
+        double maxThroughputDrop,
+        int toleratedViolations) {
+
+    public static LoadGeneratorConfig defaults() {
+        return fromArgs(new String[0]);
+    }
+
+    public static LoadGeneratorConfig fromArgs(String[] args) {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value argument but got: %s".formatted(arg));
+            }
+            var separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        var config = new LoadGeneratorConfig(
+                take(options, "scoreboard", "world-cup"),
+                Duration.parse(take(options, "duration", "PT1H")),
+                Duration.parse(take(options, "warmup", "PT1M")),
+                Duration.parse(take(options, "reportInterval", "PT10S")),
+                Integer.parseInt(take(options, "teams", "2000")),
+                Integer.parseInt(take(options, "concurrentMatches", "500")),
+                Integer.parseInt(take(options, "matchesPerDay", "10000")),
+                Integer.parseInt(take(options, "matchMinutes", "90")),
+                Duration.parse(take(options, "simulatedMinute", "PT0.01S")),
+                Double.parseDouble(take(options, "goalsPerMatch", "2.7")),
+                Integer.parseInt(take(options, "pollerThreads", "8")),
+                Long.parseLong(take(options, "seed", "42")),
+                Double.parseDouble(take(options, "maxHeapGrowth", "0.5")),
+                Double.parseDouble(take(options, "maxLatencyGrowth", "3.0")),
+                Double.parseDouble(take(options, "maxThroughputDrop", "0.5")),
+                Integer.parseInt(take(options, "toleratedViolations", "3")));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: %s".formatted(options.keySet()));
+        }
+        if (config.teams() < 2 * config.concurrentMatches()) {
+            throw new IllegalArgumentException("At least %d teams are needed for %d concurrent matches".formatted(2 * config.concurrentMatches(), config.concurrentMatches()));
+        }
+        return config;
+    }
+
+    private static String take(Map<String, String> options, String name, String defaultValue) {
+        var value = options.remove(name);
+        return value != null ? value : defaultValue;
+    }
+}
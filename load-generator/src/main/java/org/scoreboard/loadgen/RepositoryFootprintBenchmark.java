@@ -0,0 +1,130 @@
+package org.scoreboard.loadgen;
+
+import org.scoreboard.model.Match;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.repository.MatchRepository;
+import org.scoreboard.repository.OffHeapMatchRepository;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
+
+/**
+ * Compares GC cost and throughput of match repositories holding a large history of finished matches, e.g.
+ * {@code ./gradlew :load-generator:repositoryBenchmark -Pargs="--repository=off-heap --matches=10000000"}.
+ * <p>
+ * The repository is filled with finished matches first, then a full collection is forced to expose the cost of
+ * tracing the stored history, and finally live matches are started, scored and finished for the configured time
+ * while the live view is polled.
+ */
+public class RepositoryFootprintBenchmark {
+    private static final String LIVE_VIEW = "live";
+    private static final int BATCH_SIZE = 100_000;
+    private static final int LIVE_MATCHES = 500;
+
+    public static void main(String[] args) {
+        var options = Arrays.stream(args)
+                .map(arg -> arg.replaceFirst("^--", "").split("=", 2))
+                .collect(Collectors.toMap(option -> option[0], option -> option[1]));
+        var repositoryName = options.getOrDefault("repository", "in-memory");
+        var storedMatches = Integer.parseInt(options.getOrDefault("matches", "10000000"));
+        var workload = Duration.parse(options.getOrDefault("workload", "PT30S"));
+
+        var repository = createRepository(repositoryName, storedMatches, workload);
+        var monitor = new ResourceMonitor();
+
+        var fillStarted = System.nanoTime();
+        fill(repository, storedMatches);
+        var fillDuration = Duration.ofNanos(System.nanoTime() - fillStarted);
+        monitor.snapshot();
+
+        var fullGcStarted = System.nanoTime();
+        System.gc();
+        var fullGcDuration = Duration.ofNanos(System.nanoTime() - fullGcStarted);
+        var afterFill = monitor.snapshot();
+
+        var result = runWorkload(repository, workload);
+        var afterWorkload = monitor.snapshot();
+        monitor.close();
+
+        System.out.printf("repository=%s stored=%d fill=%dms fillRate=%.0f/s%n",
+                repositoryName, storedMatches, fillDuration.toMillis(), storedMatches / (fillDuration.toNanos() / 1e9));
+        System.out.printf("full GC=%dms heapAfterGc=%dMB%n",
+                fullGcDuration.toMillis(), afterFill.heapUsedAfterGcBytes() / (1024 * 1024));
+        System.out.printf("workload operations=%d throughput=%.0f/s summaries=%d gcCount=%d gcTime=%dms pauses=%d maxPause=%dms heapAfterGc=%dMB%n",
+                result.operations(), result.operations() / (workload.toNanos() / 1e9), result.summaries(),
+                afterWorkload.gcCount(), afterWorkload.gcMillis(), afterWorkload.gcPauses(), afterWorkload.maxGcPauseMillis(),
+                afterWorkload.heapUsedAfterGcBytes() / (1024 * 1024));
+        ManagementFactory.getGarbageCollectorMXBeans().forEach(collector ->
+                System.out.printf("collector %s: count=%d time=%dms%n", collector.getName(), collector.getCollectionCount(), collector.getCollectionTime()));
+    }
+
+    private static MatchRepository createRepository(String name, int storedMatches, Duration workload) {
+        return switch (name) {
+            case "in-memory" -> new InMemoryMatchRepository(storedMatches);
+            // Finished live matches are stored too, leave room for the ones the workload creates.
+            case "off-heap" -> new OffHeapMatchRepository(storedMatches + (int) Math.min(Integer.MAX_VALUE / 2, workload.toSeconds() * 200_000));
+            default -> throw new IllegalArgumentException("Unknown repository: %s, expected in-memory or off-heap".formatted(name));
+        };
+    }
+
+    private static void fill(MatchRepository repository, int storedMatches) {
+        var teams = IntStream.range(0, 2_000)
+                .mapToObj(i -> new Team("team-" + i, "Team " + i, "T" + i))
+                .toList();
+        var startTime = 1_710_064_800_000_000_000L;
+        for (int offset = 0; offset < storedMatches; offset += BATCH_SIZE) {
+            var batch = new ArrayList<Match>(BATCH_SIZE);
+            for (int i = offset; i < Math.min(storedMatches, offset + BATCH_SIZE); i++) {
+                batch.add(new Match(UUID.randomUUID().toString(), teams.get(i % 1_000), teams.get(1_000 + i % 1_000),
+                        i % 5, i % 3, true, startTime + i * 1_000_000L, i));
+            }
+            repository.saveAll(batch);
+        }
+    }
+
+    private static WorkloadResult runWorkload(MatchRepository repository, Duration workload) {
+        var scoreboard = new WorldCupScoreboard(repository, highestScoringMatchesFirst().thenComparing(mostRecentlyStartedMatchesFirst()))
+                .registerView(LIVE_VIEW, highestScoringMatchesFirst().thenComparing(mostRecentlyStartedMatchesFirst()));
+        var liveTeams = IntStream.range(0, 2 * LIVE_MATCHES)
+                .mapToObj(i -> new Team("live-team-" + i, "Live Team " + i, "L" + i))
+                .toList();
+        List<String> liveMatches = new ArrayList<>();
+        for (int i = 0; i < LIVE_MATCHES; i++) {
+            liveMatches.add(scoreboard.startMatch(liveTeams.get(2 * i), liveTeams.get(2 * i + 1)).getMatchId());
+        }
+
+        long operations = 0;
+        long summaries = 0;
+        var deadline = System.nanoTime() + workload.toNanos();
+        for (int round = 0; System.nanoTime() < deadline; round++) {
+            var slot = round % LIVE_MATCHES;
+            var goals = round / LIVE_MATCHES % 10;
+            scoreboard.updateScore(liveMatches.get(slot), goals, goals / 2);
+            operations++;
+            if (goals == 9) {
+                scoreboard.finishMatch(liveMatches.get(slot));
+                liveMatches.set(slot, scoreboard.startMatch(liveTeams.get(2 * slot), liveTeams.get(2 * slot + 1)).getMatchId());
+                operations += 2;
+            }
+            if (round % 100 == 0) {
+                scoreboard.getSummary(LIVE_VIEW);
+                summaries++;
+            }
+        }
+        return new WorkloadResult(operations, summaries);
+    }
+
+    private record WorkloadResult(long operations, long summaries) {
+    }
+}
@@ -0,0 +1,98 @@
+package org.scoreboard.loadgen;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples GC activity and heap occupancy. Heap used after the last collection is reported rather than the
+ * current usage, since only the former grows steadily when something leaks.
+ * <p>
+ * Pause counts and the longest pause come from GC notifications, which only report stop-the-world collections
+ * individually. Cycles of concurrent collectors, e.g. {@code ZGC Cycles}, are not counted as pauses. Notifications
+ * arrive asynchronously, so a pause right before a snapshot may be reported in the next one.
+ */
+public class ResourceMonitor implements AutoCloseable {
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+    private final LongAdder pauses = new LongAdder();
+    private final LongAccumulator maxPauseMillis = new LongAccumulator(Math::max, 0);
+    private final NotificationListener pauseListener = this::onCollection;
+    private long lastCollectionCount = collectionCount();
+    private long lastCollectionMillis = collectionMillis();
+
+    public ResourceMonitor() {
+        for (var collector : collectors) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(pauseListener, null, null);
+            }
+        }
+    }
+
+    public ResourceSnapshot snapshot() {
+        var count = collectionCount();
+        var millis = collectionMillis();
+        var snapshot = new ResourceSnapshot(count - lastCollectionCount, millis - lastCollectionMillis,
+                pauses.sumThenReset(), maxPauseMillis.getThenReset(), heapUsedAfterGc());
+        lastCollectionCount = count;
+        lastCollectionMillis = millis;
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        for (var collector : collectors) {
+            if (collector instanceof NotificationEmitter emitter) {
+                try {
+                    emitter.removeNotificationListener(pauseListener);
+                } catch (ListenerNotFoundException e) {
+                    // Never registered, nothing to remove.
+                }
+            }
+        }
+    }
+
+    private void onCollection(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        var info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        if (info.getGcName().contains("Cycles") || info.getGcAction().contains("concurrent")) {
+            return;
+        }
+        pauses.increment();
+        maxPauseMillis.accumulate(info.getGcInfo().getDuration());
+    }
+
+    private long collectionCount() {
+        return collectors.stream().mapToLong(collector -> Math.max(0, collector.getCollectionCount())).sum();
+    }
+
+    private long collectionMillis() {
+        return collectors.stream().mapToLong(collector -> Math.max(0, collector.getCollectionTime())).sum();
+    }
+
+    private long heapUsedAfterGc() {
+        return heapPools.stream()
+                .mapToLong(pool -> pool.getCollectionUsage() != null && pool.getCollectionUsage().getUsed() > 0
+                        ? pool.getCollectionUsage().getUsed()
+                        : pool.getUsage().getUsed())
+                .sum();
+    }
+
+    public record ResourceSnapshot(long gcCount, long gcMillis, long gcPauses, long maxGcPauseMillis, long heapUsedAfterGcBytes) {
+    }
+}
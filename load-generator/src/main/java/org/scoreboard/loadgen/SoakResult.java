@@ -0,0 +1,6 @@
+package org.scoreboard.loadgen;
+
+import java.util.List;
+
+public record SoakResult(boolean passed, int windows, List<String> failures) {
+}
@@ -0,0 +1,50 @@
+package org.scoreboard.loadgen;
+
+import org.scoreboard.loadgen.LatencyHistogram.LatencySnapshot;
+import org.scoreboard.loadgen.ResourceMonitor.ResourceSnapshot;
+
+import java.time.Duration;
+
+/**
+ * Measurements collected during one report interval of a soak run.
+ */
+public record SoakWindow(
+        Duration elapsed,
+        Duration length,
+        int liveMatches,
+        LatencySnapshot summaryLatency,
+        LatencySnapshot writeLatency,
+        ResourceSnapshot resources) {
+
+    public double summaryThroughput() {
+        return summaryLatency.count() / seconds();
+    }
+
+    public double writeThroughput() {
+        return writeLatency.count() / seconds();
+    }
+
+    public double gcTimeRatio() {
+        return resources.gcMillis() / (double) length.toMillis();
+    }
+
+    public String format() {
+        return "t=%ds live=%d summary=%.0f/s p99=%dus p999=%dus writes=%.0f/s p99=%dus gc=%d (%dms) pauses=%d max=%dms heapAfterGc=%dMB".formatted(
+                elapsed.toSeconds(),
+                liveMatches,
+                summaryThroughput(),
+                summaryLatency.p99Nanos() / 1_000,
+                summaryLatency.p999Nanos() / 1_000,
+                writeThroughput(),
+                writeLatency.p99Nanos() / 1_000,
+                resources.gcCount(),
+                resources.gcMillis(),
+                resources.gcPauses(),
+                resources.maxGcPauseMillis(),
+                resources.heapUsedAfterGcBytes() / (1024 * 1024));
+    }
+
+    private double seconds() {
+        return Math.max(1, length.toMillis()) / 1_000.0;
+    }
+}
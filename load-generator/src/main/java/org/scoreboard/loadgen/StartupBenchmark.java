@@ -0,0 +1,80 @@
+package org.scoreboard.loadgen;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Measures time to first summary of a freshly launched JVM, e.g.
+ * {@code ./gradlew :load-generator:startupBenchmark -Pargs="--matches=200000 --runs=11"}.
+ * <p>
+ * Each configuration launches {@link FirstSummaryProbe} in a new process and reports the median wall time from
+ * launch until the probe printed its first summary, and the median part of it spent in the probe's {@code main}.
+ * The state is rebuilt by replaying or importing the tournament, and the library classes are loaded either from the
+ * jar or from the class-data-sharing archive dumped by the {@code cdsArchive} task. The first summary is the default
+ * {@code getSummary()}, which visits every stored match.
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var options = Arrays.stream(args)
+                .map(arg -> arg.replaceFirst("^--", "").split("=", 2))
+                .collect(Collectors.toMap(option -> option[0], option -> option[1]));
+        var finishedMatches = options.getOrDefault("matches", "200000");
+        var runs = Integer.parseInt(options.getOrDefault("runs", "11"));
+        var libraryJar = options.get("jar");
+        var cdsArchive = options.get("cds-archive");
+
+        System.out.printf("matches=%s runs=%d%n", finishedMatches, runs);
+        // The archived classes are only used when the classpath starts with the jar they were dumped from
+        var classpath = libraryJar + File.pathSeparator + System.getProperty("java.class.path");
+        var noArchive = List.of("-cp", classpath);
+        var withArchive = List.of("-XX:SharedArchiveFile=" + cdsArchive, "-cp", classpath);
+
+        measure("replay", noArchive, List.of("replay", finishedMatches), runs);
+        measure("replay+cds", withArchive, List.of("replay", finishedMatches), runs);
+        measure("import", noArchive, List.of("import", finishedMatches), runs);
+        measure("import+cds", withArchive, List.of("import", finishedMatches), runs);
+    }
+
+    private static void measure(String name, List<String> jvmArgs, List<String> probeArgs, int runs)
+            throws IOException, InterruptedException {
+        var wallNanos = new long[runs];
+        var mainNanos = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            var command = new ArrayList<String>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(jvmArgs);
+            command.add(FirstSummaryProbe.class.getName());
+            command.addAll(probeArgs);
+
+            var launched = System.nanoTime();
+            var process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            try (var output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                var line = output.readLine();
+                wallNanos[run] = System.nanoTime() - launched;
+                if (line == null || !line.startsWith(FirstSummaryProbe.READY)) {
+                    throw new IllegalStateException("Probe failed in %s: %s".formatted(name, line));
+                }
+                mainNanos[run] = Long.parseLong(line.substring(line.lastIndexOf('=') + 1));
+            }
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("Probe failed in %s with exit code %d".formatted(name, process.exitValue()));
+            }
+        }
+        Arrays.sort(wallNanos);
+        Arrays.sort(mainNanos);
+        System.out.printf("%-11s firstSummary=%dms (min %dms, max %dms) main=%dms%n", name, median(wallNanos) / 1_000_000,
+                wallNanos[0] / 1_000_000, wallNanos[runs - 1] / 1_000_000, median(mainNanos) / 1_000_000);
+    }
+
+    private static long median(long[] sortedValues) {
+        return sortedValues[sortedValues.length / 2];
+    }
+}
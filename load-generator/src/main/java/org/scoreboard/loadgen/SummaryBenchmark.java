@@ -0,0 +1,92 @@
+package org.scoreboard.loadgen;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.ParallelSummary;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
+
+/**
+ * Compares building the summary of a live set sequentially and with {@link ParallelSummary} on pools of different
+ * sizes, to find the live set size where forking starts to pay off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SummaryBenchmark {
+    private static final Comparator<MatchView> ORDERING = highestScoringMatchesFirst()
+            .thenComparing(mostRecentlyStartedMatchesFirst());
+
+    @Param({"256", "1024", "4096", "16384", "65536"})
+    private int liveMatches;
+
+    @Param({"1", "2", "4"})
+    private int parallelism;
+
+    private List<Match> matches;
+    private ForkJoinPool pool;
+    private ParallelSummary parallelSummary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(42);
+        var start = Instant.parse("2024-03-10T10:00:00Z");
+        matches = IntStream.range(0, liveMatches)
+                .mapToObj(i -> new Match(
+                        "match-" + i,
+                        new Team("home-" + i, "Home " + i, "H" + i),
+                        new Team("away-" + i, "Away " + i, "A" + i),
+                        random.nextInt(6),
+                        random.nextInt(6),
+                        false,
+                        start.plusMillis(random.nextInt(10_000_000))))
+                .toList();
+        pool = new ForkJoinPool(parallelism);
+        parallelSummary = new ParallelSummary(pool, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<MatchSummary> sequential() {
+        return matches.stream()
+                .sorted(ORDERING)
+                .map(MatchSummary::generateSummary)
+                .toList();
+    }
+
+    @Benchmark
+    public List<MatchSummary> parallel() {
+        return parallelSummary.build(matches, ORDERING);
+    }
+}
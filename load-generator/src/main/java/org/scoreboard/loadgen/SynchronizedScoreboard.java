@@ -0,0 +1,105 @@
+package org.scoreboard.loadgen;
+
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.RankChange;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.Scoreboard;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Lets pollers share a scoreboard which is not thread-safe: summaries are read under a shared lock and
+ * mutations are applied under the exclusive one.
+ */
+class SynchronizedScoreboard implements Scoreboard {
+    private final Scoreboard scoreboard;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    SynchronizedScoreboard(Scoreboard scoreboard) {
+        this.scoreboard = scoreboard;
+    }
+
+    @Override
+    public Match startMatch(Team homeTeam, Team awayTeam) {
+        lock.writeLock().lock();
+        try {
+            return scoreboard.startMatch(homeTeam, awayTeam);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Match updateScore(String matchId, int homeScore, int awayScore) {
+        lock.writeLock().lock();
+        try {
+            return scoreboard.updateScore(matchId, homeScore, awayScore);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Match finishMatch(String matchId) {
+        lock.writeLock().lock();
+        try {
+            return scoreboard.finishMatch(matchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> importMatches(Stream<Match> matches) {
+        lock.writeLock().lock();
+        try {
+            return scoreboard.importMatches(matches);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MatchSummary> getSummary() {
+        lock.readLock().lock();
+        try {
+            return scoreboard.getSummary();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MatchSummary> getSummary(String viewName) {
+        lock.readLock().lock();
+        try {
+            return scoreboard.getSummary(viewName);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int getRank(String viewName, String matchId) {
+        lock.readLock().lock();
+        try {
+            return scoreboard.getRank(viewName, matchId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<RankChange> getRecentlyMoved(String viewName, int limit) {
+        lock.readLock().lock();
+        try {
+            return scoreboard.getRecentlyMoved(viewName, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.scoreboard.loadgen;
+
+import org.scoreboard.cache.CachingScoreboard;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.service.Scoreboard;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.util.function.Supplier;
+
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
+
+/**
+ * Soak test entry point, e.g. {@code ./gradlew :load-generator:run --args="--duration=PT4H --scoreboard=caching"}.
+ * Any scoreboard can be soaked by passing the class name of a {@code Supplier<Scoreboard>} with a public no-arg
+ * constructor as {@code --scoreboard}, or by calling {@link #run(Supplier, LoadGeneratorConfig)}.
+ * Exits with status 1 when throughput, latency, GC time or heap drifted from the baseline, or a thread failed.
+ */
+public class TournamentLoadGenerator {
+    public static void main(String[] args) throws InterruptedException {
+        var config = LoadGeneratorConfig.fromArgs(args);
+        var result = run(scoreboardFactory(config.scoreboard()), config);
+
+        if (result.passed()) {
+            System.out.printf("PASSED after %d windows%n", result.windows());
+        } else {
+            System.out.printf("FAILED after %d windows: %s%n", result.windows(), result.failures());
+            System.exit(1);
+        }
+    }
+
+    public static SoakResult run(Supplier<? extends Scoreboard> scoreboardFactory, LoadGeneratorConfig config) throws InterruptedException {
+        System.out.println("Running tournament soak test with " + config);
+        return new TournamentSimulation(new SynchronizedScoreboard(scoreboardFactory.get()), config, System.out::println).run();
+    }
+
+    static Supplier<Scoreboard> scoreboardFactory(String name) {
+        return switch (name) {
+            case "world-cup" -> WorldCupScoreboard::create;
+            case "caching" -> () -> new CachingScoreboard(new WorldCupScoreboard(
+                    new InMemoryMatchRepository(),
+                    highestScoringMatchesFirst().thenComparing(mostRecentlyStartedMatchesFirst())));
+            default -> loadScoreboardFactory(name);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Scoreboard> loadScoreboardFactory(String className) {
+        Class<?> factoryClass;
+        try {
+            factoryClass = Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown scoreboard: %s, expected world-cup, caching or the class name of a Supplier<Scoreboard>".formatted(className), e);
+        }
+        if (!Supplier.class.isAssignableFrom(factoryClass)) {
+            throw new IllegalArgumentException("Scoreboard factory %s does not implement Supplier<Scoreboard>".formatted(className));
+        }
+        try {
+            return (Supplier<Scoreboard>) factoryClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot create scoreboard factory %s".formatted(className), e);
+        }
+    }
+}
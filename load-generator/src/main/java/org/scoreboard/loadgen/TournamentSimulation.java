@@ -0,0 +1,216 @@
+package org.scoreboard.loadgen;
+
+import org.scoreboard.model.Team;
+import org.scoreboard.service.Scoreboard;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Replays a tournament day against a scoreboard: one writer thread starts matches, scores Poisson distributed
+ * goals every simulated minute and finishes matches after full time, while poller threads call
+ * {@link Scoreboard#getSummary()} as fast as they can. When the day's schedule is exhausted the next day starts,
+ * so the run lasts for the configured duration or until the measurements drift.
+ */
+public class TournamentSimulation {
+    private final Scoreboard scoreboard;
+    private final LoadGeneratorConfig config;
+    private final Consumer<String> reporter;
+    private final LatencyHistogram summaryLatency = new LatencyHistogram();
+    private final LatencyHistogram writeLatency = new LatencyHistogram();
+    private final AtomicInteger liveMatches = new AtomicInteger();
+    private final AtomicReference<Throwable> writerFailure = new AtomicReference<>();
+    private final AtomicReference<Throwable> pollerFailure = new AtomicReference<>();
+    private volatile boolean running;
+
+    public TournamentSimulation(Scoreboard scoreboard, LoadGeneratorConfig config, Consumer<String> reporter) {
+        this.scoreboard = scoreboard;
+        this.config = config;
+        this.reporter = reporter;
+    }
+
+    public SoakResult run() throws InterruptedException {
+        running = true;
+        var threads = new ArrayList<Thread>();
+        threads.add(startThread("tournament-writer", this::playTournament));
+        for (int i = 0; i < config.pollerThreads(); i++) {
+            threads.add(startThread("summary-poller-" + i, this::pollSummary));
+        }
+
+        var driftDetector = new DriftDetector(config);
+        var started = System.nanoTime();
+        var windows = 0;
+        var failures = List.<String>of();
+        try (var monitor = new ResourceMonitor()) {
+            var windowStart = System.nanoTime();
+            while (true) {
+                Thread.sleep(config.reportInterval().toMillis());
+                var now = System.nanoTime();
+                var elapsed = Duration.ofNanos(now - started);
+                var window = new SoakWindow(elapsed, Duration.ofNanos(now - windowStart), liveMatches.get(),
+                        summaryLatency.snapshotAndReset(), writeLatency.snapshotAndReset(), monitor.snapshot());
+                windowStart = now;
+                windows++;
+                reporter.accept(window.format());
+
+                var threadFailures = threadFailures();
+                if (!threadFailures.isEmpty()) {
+                    failures = threadFailures;
+                    break;
+                }
+                if (elapsed.compareTo(config.warmup()) >= 0 && driftDetector.observe(window)) {
+                    failures = driftDetector.getLastViolations();
+                    break;
+                }
+                if (elapsed.compareTo(config.duration()) >= 0) {
+                    break;
+                }
+            }
+        } finally {
+            running = false;
+            for (var thread : threads) {
+                thread.join();
+            }
+        }
+        return new SoakResult(failures.isEmpty(), windows, failures);
+    }
+
+    private void playTournament() {
+        var random = new SplittableRandom(config.seed());
+        var teams = IntStream.range(0, config.teams())
+                .mapToObj(i -> new Team("team-" + i, "Team " + i, "T" + i))
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(teams, new Random(config.seed()));
+        var idleTeams = new ArrayDeque<>(teams);
+        var matches = new ArrayList<LiveMatch>(config.concurrentMatches());
+        var goalsPerMinute = config.goalsPerMatch() / config.matchMinutes();
+        var tickNanos = config.simulatedMinute().toNanos();
+        var startedToday = 0;
+        var nextTick = System.nanoTime();
+
+        try {
+            while (running) {
+                while (matches.size() < config.concurrentMatches() && startedToday < config.matchesPerDay()) {
+                    var homeTeam = idleTeams.poll();
+                    var awayTeam = idleTeams.poll();
+                    var begin = System.nanoTime();
+                    var match = scoreboard.startMatch(homeTeam, awayTeam);
+                    writeLatency.record(System.nanoTime() - begin);
+                    matches.add(new LiveMatch(match.getMatchId(), homeTeam, awayTeam));
+                    startedToday++;
+                }
+                if (matches.isEmpty()) {
+                    startedToday = 0;
+                }
+                playMinute(matches.iterator(), idleTeams, random, goalsPerMinute);
+                liveMatches.set(matches.size());
+
+                nextTick += tickNanos;
+                var sleep = nextTick - System.nanoTime();
+                if (sleep > 0) {
+                    LockSupport.parkNanos(sleep);
+                } else {
+                    nextTick = System.nanoTime();
+                }
+            }
+        } catch (RuntimeException e) {
+            writerFailure.set(e);
+        }
+    }
+
+    private void playMinute(Iterator<LiveMatch> matches, ArrayDeque<Team> idleTeams, SplittableRandom random, double goalsPerMinute) {
+        while (matches.hasNext()) {
+            var match = matches.next();
+            match.minute++;
+            var goals = poisson(random, goalsPerMinute);
+            if (goals > 0) {
+                for (int i = 0; i < goals; i++) {
+                    if (random.nextBoolean()) {
+                        match.homeScore++;
+                    } else {
+                        match.awayScore++;
+                    }
+                }
+                var begin = System.nanoTime();
+                scoreboard.updateScore(match.matchId, match.homeScore, match.awayScore);
+                writeLatency.record(System.nanoTime() - begin);
+            }
+            if (match.minute >= config.matchMinutes()) {
+                var begin = System.nanoTime();
+                scoreboard.finishMatch(match.matchId);
+                writeLatency.record(System.nanoTime() - begin);
+                idleTeams.add(match.homeTeam);
+                idleTeams.add(match.awayTeam);
+                matches.remove();
+            }
+        }
+    }
+
+    private void pollSummary() {
+        try {
+            while (running) {
+                var begin = System.nanoTime();
+                scoreboard.getSummary();
+                summaryLatency.record(System.nanoTime() - begin);
+            }
+        } catch (RuntimeException e) {
+            pollerFailure.compareAndSet(null, e);
+        }
+    }
+
+    private List<String> threadFailures() {
+        var failures = new ArrayList<String>();
+        if (writerFailure.get() != null) {
+            failures.add("writer failed: %s".formatted(writerFailure.get()));
+        }
+        if (pollerFailure.get() != null) {
+            failures.add("poller failed: %s".formatted(pollerFailure.get()));
+        }
+        return failures;
+    }
+
+    static int poisson(SplittableRandom random, double lambda) {
+        var limit = Math.exp(-lambda);
+        var events = 0;
+        var product = random.nextDouble();
+        while (product > limit) {
+            events++;
+            product *= random.nextDouble();
+        }
+        return events;
+    }
+
+    private static Thread startThread(String name, Runnable task) {
+        var thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static final class LiveMatch {
+        private final String matchId;
+        private final Team homeTeam;
+        private final Team awayTeam;
+        private int minute;
+        private int homeScore;
+        private int awayScore;
+
+        private LiveMatch(String matchId, Team homeTeam, Team awayTeam) {
+            this.matchId = matchId;
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.scoreboard.loadgen;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.loadgen.LatencyHistogram.LatencySnapshot;
+import org.scoreboard.loadgen.ResourceMonitor.ResourceSnapshot;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DriftDetectorTest {
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private final DriftDetector detector = new DriftDetector(LoadGeneratorConfig.defaults());
+
+    @Nested
+    class Observe {
+        @Test
+        void shouldPassWhileWindowsStayCloseToBaseline() {
+            detector.observe(window(10_000, 200_000, 100 * MEGABYTE));
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(detector.observe(window(9_000, 250_000, 110 * MEGABYTE))).isFalse();
+            }
+            assertThat(detector.getLastViolations()).isEmpty();
+        }
+
+        @Test
+        void shouldFailWhenHeapKeepsGrowing() {
+            detector.observe(window(10_000, 200_000, 100 * MEGABYTE));
+
+            assertThat(detector.observe(window(10_000, 200_000, 200 * MEGABYTE))).isFalse();
+            assertThat(detector.observe(window(10_000, 200_000, 250 * MEGABYTE))).isFalse();
+            assertThat(detector.observe(window(10_000, 200_000, 300 * MEGABYTE))).isTrue();
+            assertThat(detector.getLastViolations()).singleElement().asString().contains("heap used after GC");
+        }
+
+        @Test
+        void shouldToleratePassingSpike() {
+            detector.observe(window(10_000, 200_000, 100 * MEGABYTE));
+
+            detector.observe(window(10_000, 5_000_000, 100 * MEGABYTE));
+            detector.observe(window(10_000, 5_000_000, 100 * MEGABYTE));
+
+            assertThat(detector.observe(window(10_000, 200_000, 100 * MEGABYTE))).isFalse();
+        }
+
+        @Test
+        void shouldFailWhenThroughputDrops() {
+            detector.observe(window(10_000, 200_000, 100 * MEGABYTE));
+
+            detector.observe(window(1_000, 200_000, 100 * MEGABYTE));
+            detector.observe(window(1_000, 200_000, 100 * MEGABYTE));
+
+            assertThat(detector.observe(window(1_000, 200_000, 100 * MEGABYTE))).isTrue();
+            assertThat(detector.getLastViolations()).singleElement().asString().contains("summary throughput");
+        }
+    }
+
+    private static SoakWindow window(long summaries, long p99Nanos, long heapAfterGc) {
+        return new SoakWindow(
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(1),
+                100,
+                new LatencySnapshot(summaries, p99Nanos / 2, p99Nanos, p99Nanos, p99Nanos),
+                new LatencySnapshot(100, 1_000, 2_000, 2_000, 2_000),
+                new ResourceSnapshot(1, 10, 1, 10, heapAfterGc));
+    }
+}
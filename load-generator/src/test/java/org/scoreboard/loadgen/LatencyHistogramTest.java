@@ -0,0 +1,52 @@
+package org.scoreboard.loadgen;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Nested
+    class SnapshotAndReset {
+        @Test
+        void shouldReportPercentilesWithinBucketPrecision() {
+            LongStream.rangeClosed(1, 10_000).forEach(latency -> histogram.record(latency * 1_000));
+
+            var snapshot = histogram.snapshotAndReset();
+
+            assertThat(snapshot.count()).isEqualTo(10_000);
+            assertThat((double) snapshot.p50Nanos()).isCloseTo(5_000_000, within(5_000_000 * 0.07));
+            assertThat((double) snapshot.p99Nanos()).isCloseTo(9_900_000, within(9_900_000 * 0.07));
+            assertThat(snapshot.maxNanos()).isGreaterThanOrEqualTo(10_000_000);
+        }
+
+        @Test
+        void shouldStartNewWindowAfterSnapshot() {
+            histogram.record(1_000);
+            histogram.snapshotAndReset();
+
+            var snapshot = histogram.snapshotAndReset();
+
+            assertThat(snapshot.count()).isZero();
+            assertThat(snapshot.p99Nanos()).isZero();
+        }
+    }
+
+    @Nested
+    class Buckets {
+        @Test
+        void shouldPlaceValueBelowBucketUpperBound() {
+            LongStream.of(0, 1, 15, 16, 17, 1_000, 123_456_789, 1L << 40).forEach(value -> {
+                var index = LatencyHistogram.bucketIndex(value);
+
+                assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+                assertThat(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < value).isTrue();
+            });
+        }
+    }
+}
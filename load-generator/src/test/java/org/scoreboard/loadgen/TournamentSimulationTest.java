@@ -0,0 +1,113 @@
+package org.scoreboard.loadgen;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.service.Scoreboard;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+
+class TournamentSimulationTest {
+    @Nested
+    class Run {
+        @Test
+        void shouldPlaySeveralTournamentDaysWithoutWriterFailures() throws InterruptedException {
+            var config = LoadGeneratorConfig.fromArgs(new String[]{
+                    "--duration=PT2S", "--warmup=PT0S", "--reportInterval=PT0.5S", "--teams=40", "--concurrentMatches=10",
+                    "--matchesPerDay=30", "--matchMinutes=5", "--simulatedMinute=PT0.005S", "--goalsPerMatch=5", "--pollerThreads=2",
+                    "--maxHeapGrowth=100", "--maxLatencyGrowth=1000", "--maxThroughputDrop=1"});
+            var reports = new ArrayList<String>();
+
+            var result = new TournamentSimulation(new SynchronizedScoreboard(WorldCupScoreboard.create()), config, reports::add).run();
+
+            assertThat(result.failures()).isEmpty();
+            assertThat(result.passed()).isTrue();
+            assertThat(reports).hasSize(result.windows()).allMatch(report -> report.contains("summary=") && report.contains("pauses="));
+        }
+
+        @Test
+        void shouldFailRunWhenPollerThrows() throws InterruptedException {
+            var config = LoadGeneratorConfig.fromArgs(new String[]{
+                    "--duration=PT10S", "--warmup=PT0S", "--reportInterval=PT0.2S", "--teams=40", "--concurrentMatches=10",
+                    "--pollerThreads=1", "--maxHeapGrowth=100", "--maxLatencyGrowth=1000", "--maxThroughputDrop=1"});
+            var scoreboard = new SynchronizedScoreboard(WorldCupScoreboard.create()) {
+                @Override
+                public List<MatchSummary> getSummary() {
+                    throw new IllegalStateException("summary unavailable");
+                }
+            };
+
+            var result = new TournamentSimulation(scoreboard, config, report -> {
+            }).run();
+
+            assertThat(result.passed()).isFalse();
+            assertThat(result.failures()).singleElement().asString()
+                    .startsWith("poller failed")
+                    .contains("summary unavailable");
+        }
+    }
+
+    @Nested
+    class Poisson {
+        @Test
+        void shouldDrawEventsWithExpectedMean() {
+            var random = new SplittableRandom(7);
+
+            var mean = IntStream.range(0, 100_000)
+                    .map(i -> TournamentSimulation.poisson(random, 0.3))
+                    .average()
+                    .orElseThrow();
+
+            assertThat(mean).isCloseTo(0.3, within(0.01));
+        }
+    }
+
+    @Nested
+    class Config {
+        @Test
+        void shouldRejectUnknownOption() {
+            assertThatThrownBy(() -> LoadGeneratorConfig.fromArgs(new String[]{"--speed=10"}))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("speed");
+        }
+
+        @Test
+        void shouldCreateScoreboardFromSupplierClassName() {
+            var scoreboard = TournamentLoadGenerator.scoreboardFactory(EmptyScoreboardFactory.class.getName()).get();
+
+            assertThat(scoreboard).isInstanceOf(WorldCupScoreboard.class);
+        }
+
+        @Test
+        void shouldRejectClassWhichIsNoScoreboardFactory() {
+            assertThatThrownBy(() -> TournamentLoadGenerator.scoreboardFactory(String.class.getName()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Supplier<Scoreboard>");
+        }
+
+        @Test
+        void shouldRejectUnknownScoreboard() {
+            assertThatThrownBy(() -> TournamentLoadGenerator.scoreboardFactory("org.scoreboard.Missing"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unknown scoreboard");
+        }
+    }
+
+    public static class EmptyScoreboardFactory implements Supplier<Scoreboard> {
+        @Override
+        public Scoreboard get() {
+            return new WorldCupScoreboard(new InMemoryMatchRepository(), highestScoringMatchesFirst());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.scoreboard.archive;
+
+import org.scoreboard.time.EpochNanos;
+
+import java.time.Instant;
+
+/**
+ * Predicates pushed down into an archive scan: whole blocks are skipped when their team dictionary lacks the team or
+ * their start time range misses {@code [startedFrom, startedTo)}, only remaining rows are decoded and tested.
+ */
+public record ArchiveQuery(String teamId, long startedFromEpochNanos, long startedToEpochNanos) {
+    private static final ArchiveQuery ALL = new ArchiveQuery(null, Long.MIN_VALUE, Long.MAX_VALUE);
+
+    public static ArchiveQuery all() {
+        return ALL;
+    }
+
+    public ArchiveQuery withTeam(String teamId) {
+        return new ArchiveQuery(teamId, startedFromEpochNanos, startedToEpochNanos);
+    }
+
+    public ArchiveQuery startedBetween(Instant from, Instant to) {
+        return new ArchiveQuery(teamId, EpochNanos.of(from), EpochNanos.of(to));
+    }
+
+    boolean overlaps(long minStartEpochNanos, long maxStartEpochNanos) {
+        return minStartEpochNanos < startedToEpochNanos && maxStartEpochNanos >= startedFromEpochNanos;
+    }
+
+    boolean matchesStart(long startEpochNanos) {
+        return startEpochNanos >= startedFromEpochNanos && startEpochNanos < startedToEpochNanos;
+    }
+}
@@ -0,0 +1,107 @@
+package org.scoreboard.archive;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte array for encoding one column of a block, with the matching decoders reading from a buffer.
+ * Signed values are zigzag encoded so small negative deltas stay one byte.
+ */
+final class ColumnBuffer {
+    private byte[] bytes = new byte[256];
+    private int length;
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    void writeZigZag(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeString(String value) {
+        var encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(encoded.length);
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, bytes, length, encoded.length);
+        length += encoded.length;
+    }
+
+    /**
+     * Writes a string which may be {@code null}, as its length plus one and {@code 0} for {@code null}.
+     */
+    void writeNullableString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        var encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(encoded.length + 1L);
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, bytes, length, encoded.length);
+        length += encoded.length;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void writeTo(ByteBuffer target) {
+        target.putInt(length);
+        target.put(bytes, 0, length);
+    }
+
+    void clear() {
+        length = 0;
+    }
+
+    static long readVarLong(ByteBuffer source) {
+        long value = 0;
+        var shift = 0;
+        byte current;
+        do {
+            current = source.get();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    static long readZigZag(ByteBuffer source) {
+        var value = readVarLong(source);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static String readString(ByteBuffer source) {
+        var encoded = new byte[(int) readVarLong(source)];
+        source.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    static String readNullableString(ByteBuffer source) {
+        var length = (int) readVarLong(source);
+        if (length == 0) {
+            return null;
+        }
+        var encoded = new byte[length - 1];
+        source.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    static void skipString(ByteBuffer source) {
+        var length = (int) readVarLong(source);
+        source.position(source.position() + length);
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+        if (length + additionalBytes > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additionalBytes));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package org.scoreboard.archive;
+
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.Team;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.scoreboard.archive.MatchArchiveWriter.BLOCK_HEADER_BYTES;
+import static org.scoreboard.archive.MatchArchiveWriter.FILE_HEADER_BYTES;
+import static org.scoreboard.archive.MatchArchiveWriter.MAGIC;
+import static org.scoreboard.archive.MatchArchiveWriter.VERSION;
+
+/**
+ * Scans an archive written by {@link MatchArchiveWriter} through a read-only memory mapping, so the page cache
+ * serves repeated scans and nothing is copied onto the heap up front.
+ * <p>
+ * A scan first checks the block start time range and team dictionary against the {@link ArchiveQuery} and skips
+ * the block without touching its columns when either cannot match. Otherwise the team and start time columns are
+ * decoded to test the rows, and the remaining columns only when some row matched. Matching rows are passed to the
+ * visitor as a flyweight {@link MatchView} valid until the visitor returns. Archives are limited to 2 GiB.
+ * Not thread-safe.
+ */
+public class MatchArchiveReader {
+    private final MappedByteBuffer region;
+    private final MatchRow row = new MatchRow();
+
+    public MatchArchiveReader(Path path) {
+        try (var channel = FileChannel.open(path, READ)) {
+            this.region = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (region.limit() < FILE_HEADER_BYTES || region.getInt(0) != MAGIC || region.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Not a match archive of version %d: %s".formatted(VERSION, path));
+        }
+    }
+
+    public ScanResult scan(ArchiveQuery query, Consumer<? super MatchView> visitor) {
+        var matches = 0L;
+        var scannedBlocks = 0;
+        var skippedBlocks = 0;
+        var position = FILE_HEADER_BYTES;
+        while (position < region.limit()) {
+            var block = region.slice(position, BLOCK_HEADER_BYTES).order(region.order());
+            var blockLength = block.getInt();
+            var rowCount = block.getInt();
+            var minStart = block.getLong();
+            var maxStart = block.getLong();
+            var columns = region.slice(position + BLOCK_HEADER_BYTES, blockLength - BLOCK_HEADER_BYTES + Integer.BYTES);
+            position += Integer.BYTES + blockLength;
+
+            if (!query.overlaps(minStart, maxStart)) {
+                skippedBlocks++;
+                continue;
+            }
+            var teams = readDictionary(nextColumn(columns));
+            var teamCodes = query.teamId() == null ? null : codesOf(teams, query.teamId());
+            if (query.teamId() != null && teamCodes == null) {
+                skippedBlocks++;
+                continue;
+            }
+            scannedBlocks++;
+            matches += scanBlock(columns, rowCount, teams, teamCodes, query, visitor);
+        }
+        return new ScanResult(matches, scannedBlocks, skippedBlocks);
+    }
+
+    private int scanBlock(ByteBuffer columns, int rowCount, Team[] teams, boolean[] teamCodes, ArchiveQuery query,
+                          Consumer<? super MatchView> visitor) {
+        row.ensureCapacity(rowCount);
+        var homeTeams = nextColumn(columns);
+        var awayTeams = nextColumn(columns);
+        var homeScores = nextColumn(columns);
+        var awayScores = nextColumn(columns);
+        var startTimes = nextColumn(columns);
+        var startSequences = nextColumn(columns);
+        var matchIds = nextColumn(columns);
+
+        var matching = 0;
+        var start = 0L;
+        for (int i = 0; i < rowCount; i++) {
+            row.homeTeams[i] = (int) ColumnBuffer.readVarLong(homeTeams);
+            row.awayTeams[i] = (int) ColumnBuffer.readVarLong(awayTeams);
+            start += ColumnBuffer.readZigZag(startTimes);
+            row.startTimes[i] = start;
+            row.matches[i] = query.matchesStart(start)
+                    && (teamCodes == null || teamCodes[row.homeTeams[i]] || teamCodes[row.awayTeams[i]]);
+            if (row.matches[i]) {
+                matching++;
+            }
+        }
+        if (matching == 0) {
+            return 0;
+        }
+        row.teams = teams;
+        for (int i = 0; i < rowCount; i++) {
+            row.homeScores[i] = (int) ColumnBuffer.readVarLong(homeScores);
+            row.awayScores[i] = (int) ColumnBuffer.readVarLong(awayScores);
+            row.startSequences[i] = ColumnBuffer.readZigZag(startSequences);
+        }
+        for (int i = 0; i < rowCount; i++) {
+            if (!row.matches[i]) {
+                ColumnBuffer.skipString(matchIds);
+                continue;
+            }
+            row.index = i;
+            row.matchId = ColumnBuffer.readString(matchIds);
+            visitor.accept(row);
+        }
+        return matching;
+    }
+
+    private static ByteBuffer nextColumn(ByteBuffer columns) {
+        var length = columns.getInt();
+        var column = columns.slice(columns.position(), length);
+        columns.position(columns.position() + length);
+        return column;
+    }
+
+    private static Team[] readDictionary(ByteBuffer dictionary) {
+        var teams = new Team[(int) ColumnBuffer.readVarLong(dictionary)];
+        for (int i = 0; i < teams.length; i++) {
+            teams[i] = new Team(
+                    ColumnBuffer.readNullableString(dictionary),
+                    ColumnBuffer.readNullableString(dictionary),
+                    ColumnBuffer.readNullableString(dictionary));
+        }
+        return teams;
+    }
+
+    /**
+     * Marks every dictionary code of the team id, one id may have several codes when its name changed. Returns
+     * {@code null} when the block does not contain the team.
+     */
+    private static boolean[] codesOf(Team[] teams, String teamId) {
+        boolean[] codes = null;
+        for (int i = 0; i < teams.length; i++) {
+            if (teamId.equals(teams[i].teamId())) {
+                if (codes == null) {
+                    codes = new boolean[teams.length];
+                }
+                codes[i] = true;
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Decoded columns of the current block, reused across blocks and scans.
+     */
+    private static final class MatchRow implements MatchView {
+        private Team[] teams;
+        private int[] homeTeams = new int[0];
+        private int[] awayTeams = new int[0];
+        private int[] homeScores = new int[0];
+        private int[] awayScores = new int[0];
+        private long[] startTimes = new long[0];
+        private long[] startSequences = new long[0];
+        private boolean[] matches = new boolean[0];
+        private int index;
+        private String matchId;
+
+        private void ensureCapacity(int rowCount) {
+            if (homeTeams.length < rowCount) {
+                homeTeams = Arrays.copyOf(homeTeams, rowCount);
+                awayTeams = Arrays.copyOf(awayTeams, rowCount);
+                homeScores = Arrays.copyOf(homeScores, rowCount);
+                awayScores = Arrays.copyOf(awayScores, rowCount);
+                startTimes = Arrays.copyOf(startTimes, rowCount);
+                startSequences = Arrays.copyOf(startSequences, rowCount);
+                matches = Arrays.copyOf(matches, rowCount);
+            }
+        }
+
+        @Override
+        public String getMatchId() {
+            return matchId;
+        }
+
+        @Override
+        public Team getHomeTeam() {
+            return teams[homeTeams[index]];
+        }
+
+        @Override
+        public Team getAwayTeam() {
+            return teams[awayTeams[index]];
+        }
+
+        @Override
+        public int getHomeScore() {
+            return homeScores[index];
+        }
+
+        @Override
+        public int getAwayScore() {
+            return awayScores[index];
+        }
+
+        @Override
+        public boolean isFinished() {
+            return true;
+        }
+
+        @Override
+        public long getStartEpochNanos() {
+            return startTimes[index];
+        }
+
+        @Override
+        public long getStartSequence() {
+            return startSequences[index];
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.scoreboard.archive;
+
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.MatchRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes finished matches into a columnar archive read by {@link MatchArchiveReader}.
+ * <p>
+ * After a header of magic and version the file is a sequence of blocks of up to {@code blockSize} matches, sorted by
+ * start time within the block. Each block starts with its length, row count, start time range and a dictionary of
+ * its teams, followed by length-prefixed columns: home and away team codes, home and away scores as varints, start
+ * times as zigzag deltas from the previous row, start sequences and match ids. The dictionary holds every distinct
+ * team, a team id seen with different names gets one code per variant and readers match all of them. Team fields
+ * may be {@code null}. Not thread-safe.
+ */
+public class MatchArchiveWriter implements AutoCloseable {
+    public static final int DEFAULT_BLOCK_SIZE = 4_096;
+    static final int MAGIC = 0x53424152;
+    static final int VERSION = 2;
+    static final int FILE_HEADER_BYTES = 2 * Integer.BYTES;
+    static final int BLOCK_HEADER_BYTES = 2 * Integer.BYTES + 2 * Long.BYTES;
+
+    private static final Comparator<MatchView> START_ORDER = Comparator.comparingLong(MatchView::getStartEpochNanos)
+            .thenComparingLong(MatchView::getStartSequence);
+
+    private final FileChannel channel;
+    private final int blockSize;
+    private final List<MatchSnapshot> block = new ArrayList<>();
+    private final ColumnBuffer dictionary = new ColumnBuffer();
+    private final ColumnBuffer homeTeams = new ColumnBuffer();
+    private final ColumnBuffer awayTeams = new ColumnBuffer();
+    private final ColumnBuffer homeScores = new ColumnBuffer();
+    private final ColumnBuffer awayScores = new ColumnBuffer();
+    private final ColumnBuffer startTimes = new ColumnBuffer();
+    private final ColumnBuffer startSequences = new ColumnBuffer();
+    private final ColumnBuffer matchIds = new ColumnBuffer();
+
+    public MatchArchiveWriter(Path path) {
+        this(path, DEFAULT_BLOCK_SIZE);
+    }
+
+    public MatchArchiveWriter(Path path, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive, got %d".formatted(blockSize));
+        }
+        this.blockSize = blockSize;
+        try {
+            this.channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING);
+            writeFully(ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Archives all finished matches of a repository ordered by start time, so the blocks cover consecutive time
+     * ranges and date range scans skip most of them. Returns the number of archived matches.
+     */
+    public static long export(MatchRepository repository, Path path) {
+        return write(finishedMatches(repository), path).size();
+    }
+
+    /**
+     * Archives all finished matches of a repository like {@link #export} and then removes them from the repository,
+     * so only live matches stay in memory. Matches are removed only after the archive was written and closed.
+     * Returns the number of archived and removed matches.
+     */
+    public static long archiveAndEvict(MatchRepository repository, Path path) {
+        var archived = write(finishedMatches(repository), path);
+        repository.removeFinishedMatches(archived.stream().map(MatchView::getMatchId).toList());
+        return archived.size();
+    }
+
+    public void append(MatchView match) {
+        if (!match.isFinished()) {
+            throw new IllegalArgumentException("Only finished matches can be archived, match %s is live".formatted(match.getMatchId()));
+        }
+        block.add(match.snapshot());
+        if (block.size() == blockSize) {
+            writeBlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        try (channel) {
+            if (!block.isEmpty()) {
+                writeBlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeBlock() {
+        block.sort(START_ORDER);
+        var teamCodes = new LinkedHashMap<Team, Integer>();
+        var previousStart = 0L;
+        for (var match : block) {
+            homeTeams.writeVarLong(teamCode(teamCodes, match.getHomeTeam()));
+            awayTeams.writeVarLong(teamCode(teamCodes, match.getAwayTeam()));
+            homeScores.writeVarLong(match.getHomeScore());
+            awayScores.writeVarLong(match.getAwayScore());
+            startTimes.writeZigZag(match.getStartEpochNanos() - previousStart);
+            startSequences.writeZigZag(match.getStartSequence());
+            matchIds.writeString(match.getMatchId());
+            previousStart = match.getStartEpochNanos();
+        }
+        writeDictionary(teamCodes);
+
+        var columns = List.of(dictionary, homeTeams, awayTeams, homeScores, awayScores, startTimes, startSequences, matchIds);
+        var columnBytes = columns.stream().mapToInt(column -> Integer.BYTES + column.length()).sum();
+        var buffer = ByteBuffer.allocate(BLOCK_HEADER_BYTES + columnBytes);
+        buffer.putInt(BLOCK_HEADER_BYTES - Integer.BYTES + columnBytes)
+                .putInt(block.size())
+                .putLong(block.get(0).getStartEpochNanos())
+                .putLong(block.get(block.size() - 1).getStartEpochNanos());
+        columns.forEach(column -> {
+            column.writeTo(buffer);
+            column.clear();
+        });
+        writeFully(buffer.flip());
+        block.clear();
+    }
+
+    private void writeDictionary(Map<Team, Integer> teamCodes) {
+        dictionary.writeVarLong(teamCodes.size());
+        teamCodes.keySet().forEach(team -> {
+            dictionary.writeNullableString(team.teamId());
+            dictionary.writeNullableString(team.name());
+            dictionary.writeNullableString(team.displayName());
+        });
+    }
+
+    private void writeFully(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<MatchSnapshot> finishedMatches(MatchRepository repository) {
+        var finishedMatches = new ArrayList<MatchSnapshot>();
+        repository.forEachMatch(match -> {
+            if (match.isFinished()) {
+                finishedMatches.add(match.snapshot());
+            }
+        });
+        finishedMatches.sort(START_ORDER);
+        return finishedMatches;
+    }
+
+    private static List<MatchSnapshot> write(List<MatchSnapshot> finishedMatches, Path path) {
+        try (var writer = new MatchArchiveWriter(path)) {
+            finishedMatches.forEach(writer::append);
+        }
+        return finishedMatches;
+    }
+
+    private static int teamCode(Map<Team, Integer> teamCodes, Team team) {
+        return teamCodes.computeIfAbsent(team, newTeam -> teamCodes.size());
+    }
+}
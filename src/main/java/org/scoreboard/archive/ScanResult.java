@@ -0,0 +1,4 @@
+package org.scoreboard.archive;
+
+public record ScanResult(long matches, int scannedBlocks, int skippedBlocks) {
+}
@@ -0,0 +1,9 @@
+package org.scoreboard.cache;
+
+public record CacheStatistics(long hits, long misses) {
+
+    public double hitRatio() {
+        var requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
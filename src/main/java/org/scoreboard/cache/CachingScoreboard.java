@@ -0,0 +1,165 @@
+package org.scoreboard.cache;
+
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.RankChange;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.MatchRepository;
+import org.scoreboard.service.Scoreboard;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Memoizes the summary of the decorated scoreboard for the current {@link MatchRepository#modificationVersion()}.
+ * Any change in the repository, also one not made through this decorator, invalidates the cached summary.
+ * The repository is taken from the decorated scoreboard, so the version always belongs to the matches summarized.
+ * With single-flight enabled, concurrent misses for the same entry and version compute the summary only once, while
+ * misses for different entries compute independently.
+ * <p>
+ * The default summary and every named view are cached under their own entry, and each decorated scoreboard keeps
+ * its own entries, so different sorting policies over one repository are cached independently.
+ */
+public class CachingScoreboard implements Scoreboard {
+    private final Scoreboard scoreboard;
+    private final MatchRepository matchRepository;
+    private final boolean singleFlight;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Map<CacheKey, CachedSummary> cachedSummaries = new ConcurrentHashMap<>();
+    private final Map<CacheKey, CompletableFuture<CachedSummary>> recomputations = new ConcurrentHashMap<>();
+
+    public CachingScoreboard(WorldCupScoreboard scoreboard, boolean singleFlight) {
+        this.scoreboard = scoreboard;
+        this.matchRepository = scoreboard.getMatchRepository();
+        this.singleFlight = singleFlight;
+    }
+
+    public CachingScoreboard(WorldCupScoreboard scoreboard) {
+        this(scoreboard, true);
+    }
+
+    @Override
+    public Match startMatch(Team homeTeam, Team awayTeam) {
+        return scoreboard.startMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public Match updateScore(String matchId, int homeScore, int awayScore) {
+        return scoreboard.updateScore(matchId, homeScore, awayScore);
+    }
+
+    @Override
+    public Match finishMatch(String matchId) {
+        return scoreboard.finishMatch(matchId);
+    }
+
+    @Override
+    public List<Match> importMatches(Stream<Match> matches) {
+        return scoreboard.importMatches(matches);
+    }
+
+    @Override
+    public List<MatchSummary> getSummary() {
+        return getCachedSummary(CacheKey.DEFAULT_SUMMARY, scoreboard::getSummary);
+    }
+
+    @Override
+    public List<MatchSummary> getSummary(String viewName) {
+        return getCachedSummary(new CacheKey(viewName), () -> scoreboard.getSummary(viewName));
+    }
+
+    @Override
+    public int getRank(String viewName, String matchId) {
+        return scoreboard.getRank(viewName, matchId);
+    }
+
+    @Override
+    public List<RankChange> getRecentlyMoved(String viewName, int limit) {
+        return scoreboard.getRecentlyMoved(viewName, limit);
+    }
+
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum());
+    }
+
+    private List<MatchSummary> getCachedSummary(CacheKey key, Supplier<List<MatchSummary>> computation) {
+        var cached = lookup(key);
+        if (cached != null) {
+            return cached.summary();
+        }
+        if (!singleFlight) {
+            return recompute(key, computation).summary();
+        }
+        while (true) {
+            var recomputation = new CompletableFuture<CachedSummary>();
+            var running = recomputations.putIfAbsent(key, recomputation);
+            if (running == null) {
+                return recomputeOnce(key, computation, recomputation);
+            }
+            var result = await(running);
+            if (result.version() == matchRepository.modificationVersion()) {
+                hits.increment();
+                return result.summary();
+            }
+        }
+    }
+
+    private List<MatchSummary> recomputeOnce(CacheKey key, Supplier<List<MatchSummary>> computation,
+                                             CompletableFuture<CachedSummary> recomputation) {
+        try {
+            var cached = lookup(key);
+            var result = cached != null ? cached : recompute(key, computation);
+            recomputation.complete(result);
+            return result.summary();
+        } catch (RuntimeException e) {
+            recomputation.completeExceptionally(e);
+            throw e;
+        } finally {
+            recomputations.remove(key, recomputation);
+        }
+    }
+
+    private CachedSummary lookup(CacheKey key) {
+        var cached = cachedSummaries.get(key);
+        if (cached != null && cached.version() == matchRepository.modificationVersion()) {
+            hits.increment();
+            return cached;
+        }
+        return null;
+    }
+
+    private CachedSummary recompute(CacheKey key, Supplier<List<MatchSummary>> computation) {
+        misses.increment();
+        // Version is read before computing: a concurrent change leaves the entry stale and forces the next call to recompute.
+        var version = matchRepository.modificationVersion();
+        var result = new CachedSummary(version, computation.get());
+        cachedSummaries.put(key, result);
+        return result;
+    }
+
+    private static CachedSummary await(CompletableFuture<CachedSummary> recomputation) {
+        try {
+            return recomputation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CacheKey(String viewName) {
+        private static final CacheKey DEFAULT_SUMMARY = new CacheKey(null);
+    }
+
+    private record CachedSummary(long version, List<MatchSummary> summary) {
+    }
+}
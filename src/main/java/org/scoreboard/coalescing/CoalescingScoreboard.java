@@ -0,0 +1,181 @@
+package org.scoreboard.coalescing;
+
+import org.scoreboard.exception.DomainValidationException;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.RankChange;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.Scoreboard;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Coalesces bursty score feeds in front of {@link Scoreboard#updateScore}. {@link #submitScore} only stores the
+ * latest pending score per match in a concurrent slot map; pending scores are flushed to the decorated scoreboard
+ * every {@code flushInterval} or as soon as {@code batchSize} matches have one. Scores superseded before a flush and
+ * scores equal to the one already applied never reach the decorated scoreboard.
+ * <p>
+ * Reads see flushed scores only. Direct {@link #updateScore} calls bypass coalescing and drop the pending score of
+ * that match, {@link #finishMatch} flushes it first. Calls to the decorated scoreboard are serialized.
+ */
+public class CoalescingScoreboard implements Scoreboard, AutoCloseable {
+    private final Scoreboard scoreboard;
+    private final int batchSize;
+    private final ScheduledExecutorService ticker;
+    private final Map<String, Long> pendingScores = new ConcurrentHashMap<>();
+    private final Map<String, Long> appliedScores = new HashMap<>();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder superseded = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public CoalescingScoreboard(Scoreboard scoreboard, Duration flushInterval, int batchSize) {
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Flush interval must be positive, got %s".formatted(flushInterval));
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, got %d".formatted(batchSize));
+        }
+        this.scoreboard = scoreboard;
+        this.batchSize = batchSize;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(task -> {
+            var thread = new Thread(task, "score-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::flush, flushInterval.toNanos(), flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Queues the latest score of a match without touching the decorated scoreboard, unless the batch is full.
+     */
+    public void submitScore(String matchId, int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0) {
+            throw new DomainValidationException("Scores cannot be negative.");
+        }
+        submitted.increment();
+        if (pendingScores.put(matchId, pack(homeScore, awayScore)) != null) {
+            superseded.increment();
+        }
+        if (pendingScores.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    public synchronized void flush() {
+        for (var matchId : pendingScores.keySet()) {
+            var score = pendingScores.remove(matchId);
+            if (score != null) {
+                apply(matchId, score);
+            }
+        }
+    }
+
+    @Override
+    public synchronized Match startMatch(Team homeTeam, Team awayTeam) {
+        var match = scoreboard.startMatch(homeTeam, awayTeam);
+        appliedScores.put(match.getMatchId(), pack(match.getHomeScore(), match.getAwayScore()));
+        return match;
+    }
+
+    @Override
+    public synchronized Match updateScore(String matchId, int homeScore, int awayScore) {
+        if (pendingScores.remove(matchId) != null) {
+            superseded.increment();
+        }
+        var match = scoreboard.updateScore(matchId, homeScore, awayScore);
+        appliedScores.put(matchId, pack(homeScore, awayScore));
+        return match;
+    }
+
+    @Override
+    public synchronized Match finishMatch(String matchId) {
+        var score = pendingScores.remove(matchId);
+        if (score != null) {
+            apply(matchId, score);
+        }
+        var match = scoreboard.finishMatch(matchId);
+        appliedScores.remove(matchId);
+        return match;
+    }
+
+    @Override
+    public synchronized List<Match> importMatches(Stream<Match> matches) {
+        var imported = scoreboard.importMatches(matches);
+        imported.stream()
+                .filter(match -> !match.isFinished())
+                .forEach(match -> appliedScores.put(match.getMatchId(), pack(match.getHomeScore(), match.getAwayScore())));
+        return imported;
+    }
+
+    @Override
+    public synchronized List<MatchSummary> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    @Override
+    public synchronized List<MatchSummary> getSummary(String viewName) {
+        return scoreboard.getSummary(viewName);
+    }
+
+    @Override
+    public synchronized int getRank(String viewName, String matchId) {
+        return scoreboard.getRank(viewName, matchId);
+    }
+
+    @Override
+    public synchronized List<RankChange> getRecentlyMoved(String viewName, int limit) {
+        return scoreboard.getRecentlyMoved(viewName, limit);
+    }
+
+    public CoalescingStatistics getStatistics() {
+        return new CoalescingStatistics(submitted.sum(), superseded.sum(), duplicates.sum(), applied.sum(), rejected.sum());
+    }
+
+    /**
+     * Stops the ticker and flushes scores still pending.
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        flush();
+    }
+
+    private void apply(String matchId, long score) {
+        if (appliedScores.getOrDefault(matchId, -1L) == score) {
+            duplicates.increment();
+            return;
+        }
+        try {
+            scoreboard.updateScore(matchId, homeScore(score), awayScore(score));
+            appliedScores.put(matchId, score);
+            applied.increment();
+        } catch (RuntimeException e) {
+            // Nobody waits for a coalesced score, a refused one is only counted. Catching every failure keeps the
+            // rest of the drained batch and the ticker, which a scheduled task throwing once would cancel, alive.
+            rejected.increment();
+        }
+    }
+
+    private static long pack(int homeScore, int awayScore) {
+        return (long) homeScore << 32 | awayScore;
+    }
+
+    private static int homeScore(long score) {
+        return (int) (score >>> 32);
+    }
+
+    private static int awayScore(long score) {
+        return (int) score;
+    }
+}
@@ -0,0 +1,16 @@
+package org.scoreboard.coalescing;
+
+/**
+ * Counters of submitted scores: {@code superseded} were replaced by a newer score before a flush, {@code duplicates}
+ * repeated the score already applied, {@code applied} reached the decorated scoreboard and {@code rejected} were
+ * refused by it, e.g. for an unknown match.
+ */
+public record CoalescingStatistics(long submitted, long superseded, long duplicates, long applied, long rejected) {
+
+    /**
+     * Share of submitted scores dropped before reaching the decorated scoreboard.
+     */
+    public double coalescingRatio() {
+        return submitted == 0 ? 0.0 : (double) (superseded + duplicates) / submitted;
+    }
+}
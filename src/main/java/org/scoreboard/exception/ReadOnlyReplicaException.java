@@ -0,0 +1,9 @@
+package org.scoreboard.exception;
+
+public class ReadOnlyReplicaException extends RuntimeException {
+    private static final String MESSAGE_TEMPLATE = "Follower scoreboard is read-only, %s must be sent to the leader";
+
+    public ReadOnlyReplicaException(String operation) {
+        super(MESSAGE_TEMPLATE.formatted(operation));
+    }
+}
@@ -0,0 +1,9 @@
+package org.scoreboard.exception;
+
+public class ViewNotFoundException extends RuntimeException {
+    private static final String MESSAGE_TEMPLATE = "No summary view registered with name: %s";
+
+    public ViewNotFoundException(String viewName) {
+        super(MESSAGE_TEMPLATE.formatted(viewName));
+    }
+}
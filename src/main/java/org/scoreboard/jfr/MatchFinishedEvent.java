@@ -0,0 +1,26 @@
+package org.scoreboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.scoreboard.MatchFinished")
+@Label("Match Finished")
+@Category("Scoreboard")
+@Description("Match finished, including releasing its teams and storing the match")
+@Enabled(false)
+@StackTrace(false)
+public class MatchFinishedEvent extends ScoreboardEvent {
+    @Label("Match Id")
+    private String matchId;
+
+    public void complete(String matchId) {
+        if (shouldCommit()) {
+            this.matchId = matchId;
+            commit();
+        }
+    }
+}
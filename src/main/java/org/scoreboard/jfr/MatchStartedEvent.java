@@ -0,0 +1,37 @@
+package org.scoreboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.Team;
+
+@Name("org.scoreboard.MatchStarted")
+@Label("Match Started")
+@Category("Scoreboard")
+@Description("Match started on the scoreboard, including validation of both teams")
+@Enabled(false)
+@StackTrace(false)
+public class MatchStartedEvent extends ScoreboardEvent {
+    @Label("Match Id")
+    private String matchId;
+    @Label("Home Team Id")
+    private String homeTeam;
+    @Label("Away Team Id")
+    private String awayTeam;
+
+    /**
+     * Completes the event of a start request, {@code match} is {@code null} when the start was rejected.
+     */
+    public void complete(Team homeTeam, Team awayTeam, Match match) {
+        if (shouldCommit()) {
+            matchId = match == null ? null : match.getMatchId();
+            this.homeTeam = homeTeam == null ? null : homeTeam.teamId();
+            this.awayTeam = awayTeam == null ? null : awayTeam.teamId();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.scoreboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.scoreboard.RepositoryLookup")
+@Label("Repository Lookup")
+@Category({"Scoreboard", "Repository"})
+@Description("Lookup of a match or a team in the match repository")
+@Enabled(false)
+@StackTrace(false)
+public class RepositoryLookupEvent extends Event {
+    @Label("Operation")
+    private String operation;
+    @Label("Key")
+    private String key;
+    @Label("Found")
+    private boolean found;
+
+    public void complete(String operation, String key, boolean found) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.key = key;
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.scoreboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.scoreboard.ScoreUpdated")
+@Label("Score Updated")
+@Category("Scoreboard")
+@Description("Score of a live match updated, including the lookup and storing the match")
+@Enabled(false)
+@StackTrace(false)
+public class ScoreUpdatedEvent extends ScoreboardEvent {
+    @Label("Match Id")
+    private String matchId;
+    @Label("Home Score")
+    private int homeScore;
+    @Label("Away Score")
+    private int awayScore;
+
+    public void complete(String matchId, int homeScore, int awayScore) {
+        if (shouldCommit()) {
+            this.matchId = matchId;
+            this.homeScore = homeScore;
+            this.awayScore = awayScore;
+            commit();
+        }
+    }
+}
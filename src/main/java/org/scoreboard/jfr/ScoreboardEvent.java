@@ -0,0 +1,20 @@
+package org.scoreboard.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base of scoreboard operation events. Operations commit their event whether they succeed or fail, a failed one
+ * carries the class of the exception it was rejected with.
+ */
+public abstract class ScoreboardEvent extends Event {
+    // JFR only records fields of a superclass that are not private
+    @Label("Error")
+    @Description("Class of the exception the operation failed with, empty when it succeeded")
+    protected String error;
+
+    public void failed(RuntimeException exception) {
+        error = exception.getClass().getName();
+    }
+}
@@ -0,0 +1,53 @@
+package org.scoreboard.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Covers collecting, sorting and formatting a summary. The sort duration is reported separately, the rest of the
+ * event duration is repository access and {@code MatchSummary} formatting. Parallel summaries sort and format
+ * together, so their sort duration includes formatting.
+ */
+@Name("org.scoreboard.SummaryBuilt")
+@Label("Summary Built")
+@Category("Scoreboard")
+@Description("Summary of live matches built by the scoreboard")
+@Enabled(false)
+@StackTrace(false)
+public class SummaryBuiltEvent extends ScoreboardEvent {
+    public static final String DEFAULT_VIEW = "default";
+
+    @Label("View")
+    private String view;
+    @Label("Live Matches")
+    private int liveMatches;
+    @Label("Sort Duration")
+    @Timespan
+    private long sortDuration;
+
+    /**
+     * Reads the clock only while the event is enabled, so measuring the sort costs nothing otherwise.
+     */
+    public long startSort() {
+        return isEnabled() ? System.nanoTime() : 0;
+    }
+
+    public void sorted(long sortStart) {
+        if (sortStart != 0) {
+            sortDuration = System.nanoTime() - sortStart;
+        }
+    }
+
+    public void complete(String view, int liveMatches) {
+        if (shouldCommit()) {
+            this.view = view;
+            this.liveMatches = liveMatches;
+            commit();
+        }
+    }
+}
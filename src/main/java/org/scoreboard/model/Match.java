@@ -3,22 +3,29 @@ package org.scoreboard.model;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.scoreboard.exception.DomainValidationException;
+import org.scoreboard.time.EpochNanos;
+import org.scoreboard.time.MatchClock;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Getter
 @EqualsAndHashCode
-public class Match {
+public class Match implements MatchView {
     private final String matchId;
     private final Team homeTeam;
     private final Team awayTeam;
     private int homeScore;
     private int awayScore;
     private boolean isFinished;
-    private final Instant startTime;
+    private final long startEpochNanos;
+    private final long startSequence;
 
     public Match(String matchId, Team homeTeam, Team awayTeam, int homeScore, int awayScore, boolean isFinished, Instant startTime) {
+        this(matchId, homeTeam, awayTeam, homeScore, awayScore, isFinished, EpochNanos.of(startTime), 0);
+    }
+
+    public Match(String matchId, Team homeTeam, Team awayTeam, int homeScore, int awayScore, boolean isFinished, long startEpochNanos, long startSequence) {
         validateTeams(homeTeam, awayTeam);
         validateScore(homeScore);
         validateScore(awayScore);
@@ -28,10 +35,15 @@ public class Match {
         this.homeScore = homeScore;
         this.awayScore = awayScore;
         this.isFinished = isFinished;
-        this.startTime = startTime;
+        this.startEpochNanos = startEpochNanos;
+        this.startSequence = startSequence;
     }
 
     public Match(Team homeTeam, Team awayTeam) {
+        this(homeTeam, awayTeam, MatchClock.system());
+    }
+
+    public Match(Team homeTeam, Team awayTeam, MatchClock clock) {
         validateTeams(homeTeam, awayTeam);
         this.matchId = UUID.randomUUID().toString();
         this.homeTeam = homeTeam;
@@ -39,7 +51,8 @@ public class Match {
         this.homeScore = 0;
         this.awayScore = 0;
         this.isFinished = false;
-        this.startTime = Instant.now();
+        this.startEpochNanos = clock.currentEpochNanos();
+        this.startSequence = clock.nextSequence();
     }
 
     public void setHomeScore(int homeScore) {
@@ -57,19 +70,19 @@ public class Match {
         this.isFinished = true;
     }
 
-    public int getTotalScore() {
-        return homeScore + awayScore;
-    }
-
-    public String getHomeTeamId() {
-        return this.getHomeTeam().teamId();
+    /**
+     * A match is the stored object itself, so it is retained by reference.
+     */
+    @Override
+    public MatchView retain() {
+        return this;
     }
 
-    public String getAwayTeamId() {
-        return this.getAwayTeam().teamId();
+    public Match copy() {
+        return new Match(matchId, homeTeam, awayTeam, homeScore, awayScore, isFinished, startEpochNanos, startSequence);
     }
 
-    private void validateTeams(Team homeTeam, Team awayTeam) {
+    public static void validateTeams(Team homeTeam, Team awayTeam) {
         if (homeTeam == null || awayTeam == null) {
             throw new DomainValidationException("Teams cannot be null.");
         }
@@ -0,0 +1,28 @@
+package org.scoreboard.model;
+
+import lombok.Value;
+
+/**
+ * Immutable values of a match at the moment the snapshot was taken.
+ */
+@Value
+public class MatchSnapshot implements MatchView {
+    String matchId;
+    Team homeTeam;
+    Team awayTeam;
+    int homeScore;
+    int awayScore;
+    boolean finished;
+    long startEpochNanos;
+    long startSequence;
+
+    @Override
+    public MatchView retain() {
+        return this;
+    }
+
+    @Override
+    public MatchSnapshot snapshot() {
+        return this;
+    }
+}
@@ -0,0 +1,63 @@
+package org.scoreboard.model;
+
+import org.scoreboard.time.EpochNanos;
+
+import java.time.Instant;
+
+/**
+ * Read-only view of a match. Views handed out while iterating a repository may be flyweights which move on to
+ * the next match once the visitor returns, {@link #snapshot()} keeps the current values and {@link #retain()} keeps
+ * the view itself whenever it outlives the visit without copying.
+ */
+public interface MatchView {
+
+    String getMatchId();
+
+    Team getHomeTeam();
+
+    Team getAwayTeam();
+
+    int getHomeScore();
+
+    int getAwayScore();
+
+    boolean isFinished();
+
+    long getStartEpochNanos();
+
+    long getStartSequence();
+
+    default Instant getStartTime() {
+        return EpochNanos.toInstant(getStartEpochNanos());
+    }
+
+    default int getTotalScore() {
+        return getHomeScore() + getAwayScore();
+    }
+
+    default int getGoalDifference() {
+        return Math.abs(getHomeScore() - getAwayScore());
+    }
+
+    default String getHomeTeamId() {
+        return getHomeTeam().teamId();
+    }
+
+    default String getAwayTeamId() {
+        return getAwayTeam().teamId();
+    }
+
+    /**
+     * Returns a view which stays valid after the visitor returns: the view itself when it is a stored object, a
+     * snapshot when it is a flyweight. A retained stored object still reflects later updates, it is only as
+     * consistent as the repository's own locking makes it.
+     */
+    default MatchView retain() {
+        return snapshot();
+    }
+
+    default MatchSnapshot snapshot() {
+        return new MatchSnapshot(getMatchId(), getHomeTeam(), getAwayTeam(), getHomeScore(), getAwayScore(),
+                isFinished(), getStartEpochNanos(), getStartSequence());
+    }
+}
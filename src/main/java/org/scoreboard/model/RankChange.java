@@ -0,0 +1,15 @@
+package org.scoreboard.model;
+
+/**
+ * Position change of a live match within a summary view caused by one of its own updates. Matches it displaced are
+ * not reported. Ranks start at 1.
+ */
+public record RankChange(String matchId, int previousRank, int currentRank) {
+
+    /**
+     * Number of places the match climbed, negative when it dropped.
+     */
+    public int movement() {
+        return previousRank - currentRank;
+    }
+}
@@ -1,19 +1,25 @@
 package org.scoreboard.policy;
 
-import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchView;
 
 import java.util.Comparator;
 
-import static java.util.Comparator.comparing;
 import static java.util.Comparator.comparingInt;
+import static java.util.Comparator.comparingLong;
 
 public class MatchSortingPolicies {
 
-    public static Comparator<Match> highestScoringMatchesFirst() {
-        return comparingInt(Match::getTotalScore).reversed();
+    public static Comparator<MatchView> highestScoringMatchesFirst() {
+        return comparingInt(MatchView::getTotalScore).reversed();
     }
 
-    public static Comparator<Match> mostRecentlyStartedMatchesFirst() {
-        return comparing(Match::getStartTime).reversed();
+    public static Comparator<MatchView> mostRecentlyStartedMatchesFirst() {
+        return comparingLong(MatchView::getStartEpochNanos)
+                .thenComparingLong(MatchView::getStartSequence)
+                .reversed();
+    }
+
+    public static Comparator<MatchView> biggestGoalDifferenceFirst() {
+        return comparingInt(MatchView::getGoalDifference).reversed();
     }
 }
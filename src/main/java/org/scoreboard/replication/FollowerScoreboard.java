@@ -0,0 +1,115 @@
+package org.scoreboard.replication;
+
+import org.scoreboard.exception.ReadOnlyReplicaException;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.RankChange;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.repository.MatchRepository;
+import org.scoreboard.service.Scoreboard;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
+
+/**
+ * Read-only replica fed by the leader's command log. Summaries are served from the follower's own repository,
+ * so reads never reach the leader and may trail it by {@link #getReplicationLag()} entries. A follower starts from
+ * an empty repository and replays the log from its first entry, so it has to be created before the leader ships.
+ */
+public class FollowerScoreboard implements Scoreboard {
+    private final MatchRepository matchRepository;
+    private final Scoreboard readView;
+    private final ReplicationTransport transport;
+    private long lastAppliedSequence;
+
+    public FollowerScoreboard(MatchRepository matchRepository, Comparator<MatchView> sortingPolicy, ReplicationTransport transport) {
+        this.matchRepository = matchRepository;
+        this.readView = new WorldCupScoreboard(matchRepository, sortingPolicy);
+        this.transport = transport;
+        transport.subscribe(this::apply);
+    }
+
+    public static FollowerScoreboard following(ReplicationTransport transport) {
+        return new FollowerScoreboard(
+                new InMemoryMatchRepository(),
+                highestScoringMatchesFirst()
+                        .thenComparing(mostRecentlyStartedMatchesFirst()),
+                transport);
+    }
+
+    @Override
+    public Match startMatch(Team homeTeam, Team awayTeam) {
+        throw new ReadOnlyReplicaException("startMatch");
+    }
+
+    @Override
+    public Match updateScore(String matchId, int homeScore, int awayScore) {
+        throw new ReadOnlyReplicaException("updateScore");
+    }
+
+    @Override
+    public Match finishMatch(String matchId) {
+        throw new ReadOnlyReplicaException("finishMatch");
+    }
+
+    @Override
+    public List<Match> importMatches(Stream<Match> matches) {
+        throw new ReadOnlyReplicaException("importMatches");
+    }
+
+    @Override
+    public synchronized List<MatchSummary> getSummary() {
+        return readView.getSummary();
+    }
+
+    @Override
+    public synchronized List<MatchSummary> getSummary(String viewName) {
+        return readView.getSummary(viewName);
+    }
+
+    @Override
+    public synchronized int getRank(String viewName, String matchId) {
+        return readView.getRank(viewName, matchId);
+    }
+
+    @Override
+    public synchronized List<RankChange> getRecentlyMoved(String viewName, int limit) {
+        return readView.getRecentlyMoved(viewName, limit);
+    }
+
+    public synchronized FollowerScoreboard registerView(String viewName, Comparator<MatchView> viewSortingPolicy) {
+        matchRepository.registerIndex(viewName, viewSortingPolicy);
+        return this;
+    }
+
+    public synchronized long getLastAppliedSequence() {
+        return lastAppliedSequence;
+    }
+
+    /**
+     * Reads the transport before entering this monitor: delivering transports call {@link #apply} while holding
+     * their own locks, so taking them in the opposite order here could deadlock.
+     */
+    public long getReplicationLag() {
+        var lastShippedSequence = transport.lastShippedSequence();
+        return Math.max(0, lastShippedSequence - getLastAppliedSequence());
+    }
+
+    synchronized void apply(ReplicationEntry entry) {
+        if (entry.sequence() <= lastAppliedSequence) {
+            return;
+        }
+        if (entry.sequence() != lastAppliedSequence + 1) {
+            throw new IllegalStateException("Replication gap: expected entry %d but received %d".formatted(lastAppliedSequence + 1, entry.sequence()));
+        }
+        entry.command().applyTo(matchRepository);
+        lastAppliedSequence = entry.sequence();
+    }
+}
@@ -0,0 +1,100 @@
+package org.scoreboard.replication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport for tests and single-node setups. Shipped entries are buffered until
+ * {@link #deliverPending()} is called, which makes replication lag observable and deterministic.
+ * <p>
+ * Every subscriber has its own delivery position: an entry stays buffered until all subscribers accepted it, so a
+ * subscriber which throws gets the entry again on the next delivery and never holds back the others. The transport
+ * keeps no log of delivered entries to catch up from, subscribers have to join before the first entry is shipped.
+ */
+public class LoopbackReplicationTransport implements ReplicationTransport {
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private final List<ReplicationEntry> pending = new ArrayList<>();
+    private final Object deliveryLock = new Object();
+    private long lastShippedSequence;
+
+    @Override
+    public synchronized void ship(ReplicationEntry entry) {
+        pending.add(entry);
+        lastShippedSequence = entry.sequence();
+    }
+
+    @Override
+    public synchronized void subscribe(Consumer<ReplicationEntry> subscriber) {
+        if (lastShippedSequence != 0) {
+            throw new IllegalStateException("Cannot subscribe after entry %d was shipped, the transport keeps no log to catch up from"
+                    .formatted(lastShippedSequence));
+        }
+        subscriptions.add(new Subscription(subscriber));
+    }
+
+    @Override
+    public synchronized long lastShippedSequence() {
+        return lastShippedSequence;
+    }
+
+    /**
+     * Delivers the buffered entries outside the transport lock, so subscribers taking their own locks can never
+     * deadlock with callers of {@link #lastShippedSequence()}. Deliveries are serialized to keep sequence order.
+     * When a subscriber throws, the remaining subscribers are still served and the first failure is rethrown
+     * afterwards, with later ones suppressed.
+     *
+     * @return number of entries which were buffered when the delivery started
+     */
+    public int deliverPending() {
+        synchronized (deliveryLock) {
+            List<ReplicationEntry> entries;
+            List<Subscription> currentSubscriptions;
+            synchronized (this) {
+                entries = new ArrayList<>(pending);
+                currentSubscriptions = List.copyOf(subscriptions);
+            }
+            RuntimeException failure = null;
+            for (var subscription : currentSubscriptions) {
+                try {
+                    subscription.deliver(entries);
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            var acceptedByAll = currentSubscriptions.stream()
+                    .mapToLong(subscription -> subscription.deliveredSequence)
+                    .min()
+                    .orElse(Long.MAX_VALUE);
+            synchronized (this) {
+                pending.removeIf(entry -> entry.sequence() <= acceptedByAll);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return entries.size();
+        }
+    }
+
+    private static final class Subscription {
+        private final Consumer<ReplicationEntry> subscriber;
+        private long deliveredSequence;
+
+        private Subscription(Consumer<ReplicationEntry> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void deliver(List<ReplicationEntry> entries) {
+            for (var entry : entries) {
+                if (entry.sequence() > deliveredSequence) {
+                    subscriber.accept(entry);
+                    deliveredSequence = entry.sequence();
+                }
+            }
+        }
+    }
+}
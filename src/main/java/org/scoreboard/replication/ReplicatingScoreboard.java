@@ -0,0 +1,78 @@
+package org.scoreboard.replication;
+
+import lombok.RequiredArgsConstructor;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.RankChange;
+import org.scoreboard.model.Team;
+import org.scoreboard.replication.ScoreboardCommand.FinishMatch;
+import org.scoreboard.replication.ScoreboardCommand.ImportMatches;
+import org.scoreboard.replication.ScoreboardCommand.StartMatch;
+import org.scoreboard.replication.ScoreboardCommand.UpdateScore;
+import org.scoreboard.service.Scoreboard;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Leader side of replication. Every successful mutation of the decorated scoreboard is appended to the
+ * command log and shipped to followers in the order it was applied.
+ */
+@RequiredArgsConstructor
+public class ReplicatingScoreboard implements Scoreboard {
+    private final Scoreboard scoreboard;
+    private final ReplicationTransport transport;
+    private long sequence;
+
+    @Override
+    public synchronized Match startMatch(Team homeTeam, Team awayTeam) {
+        var match = scoreboard.startMatch(homeTeam, awayTeam);
+        ship(StartMatch.of(match));
+        return match;
+    }
+
+    @Override
+    public synchronized Match updateScore(String matchId, int homeScore, int awayScore) {
+        var match = scoreboard.updateScore(matchId, homeScore, awayScore);
+        ship(new UpdateScore(matchId, homeScore, awayScore));
+        return match;
+    }
+
+    @Override
+    public synchronized Match finishMatch(String matchId) {
+        var match = scoreboard.finishMatch(matchId);
+        ship(new FinishMatch(matchId));
+        return match;
+    }
+
+    @Override
+    public synchronized List<Match> importMatches(Stream<Match> matches) {
+        var imported = scoreboard.importMatches(matches);
+        ship(ImportMatches.of(imported));
+        return imported;
+    }
+
+    @Override
+    public synchronized List<MatchSummary> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    @Override
+    public synchronized List<MatchSummary> getSummary(String viewName) {
+        return scoreboard.getSummary(viewName);
+    }
+
+    @Override
+    public synchronized int getRank(String viewName, String matchId) {
+        return scoreboard.getRank(viewName, matchId);
+    }
+
+    @Override
+    public synchronized List<RankChange> getRecentlyMoved(String viewName, int limit) {
+        return scoreboard.getRecentlyMoved(viewName, limit);
+    }
+
+    private void ship(ScoreboardCommand command) {
+        transport.ship(new ReplicationEntry(++sequence, command));
+    }
+}
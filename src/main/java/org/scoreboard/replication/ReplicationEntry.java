@@ -0,0 +1,4 @@
+package org.scoreboard.replication;
+
+public record ReplicationEntry(long sequence, ScoreboardCommand command) {
+}
@@ -0,0 +1,15 @@
+package org.scoreboard.replication;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the ordered command log from the leader to followers. Implementations must deliver entries to each
+ * subscriber in sequence order; redelivery of already applied entries is tolerated by followers.
+ */
+public interface ReplicationTransport {
+    void ship(ReplicationEntry entry);
+
+    void subscribe(Consumer<ReplicationEntry> subscriber);
+
+    long lastShippedSequence();
+}
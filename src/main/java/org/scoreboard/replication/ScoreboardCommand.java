@@ -0,0 +1,67 @@
+package org.scoreboard.replication;
+
+import org.scoreboard.exception.MatchNotFoundException;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.MatchRepository;
+
+import java.util.List;
+
+/**
+ * Mutation accepted by the leader, shipped to followers and replayed against their own repository.
+ */
+public sealed interface ScoreboardCommand {
+    void applyTo(MatchRepository matchRepository);
+
+    record StartMatch(String matchId, Team homeTeam, Team awayTeam, long startEpochNanos, long startSequence) implements ScoreboardCommand {
+        public static StartMatch of(Match match) {
+            return new StartMatch(match.getMatchId(), match.getHomeTeam(), match.getAwayTeam(), match.getStartEpochNanos(), match.getStartSequence());
+        }
+
+        @Override
+        public void applyTo(MatchRepository matchRepository) {
+            matchRepository.save(new Match(matchId, homeTeam, awayTeam, 0, 0, false, startEpochNanos, startSequence));
+        }
+    }
+
+    record UpdateScore(String matchId, int homeScore, int awayScore) implements ScoreboardCommand {
+        @Override
+        public void applyTo(MatchRepository matchRepository) {
+            var match = matchRepository.findById(matchId)
+                    .orElseThrow(() -> new MatchNotFoundException(matchId));
+            match.setHomeScore(homeScore);
+            match.setAwayScore(awayScore);
+            matchRepository.put(match);
+        }
+    }
+
+    /**
+     * Keeps immutable snapshots of the imported matches, every follower applying the command builds its own
+     * matches from them once.
+     */
+    record ImportMatches(List<MatchSnapshot> matches) implements ScoreboardCommand {
+        public static ImportMatches of(List<Match> matches) {
+            return new ImportMatches(matches.stream().map(Match::snapshot).toList());
+        }
+
+        @Override
+        public void applyTo(MatchRepository matchRepository) {
+            matchRepository.saveAll(matches.stream()
+                    .map(match -> new Match(match.getMatchId(), match.getHomeTeam(), match.getAwayTeam(), match.getHomeScore(),
+                            match.getAwayScore(), match.isFinished(), match.getStartEpochNanos(), match.getStartSequence()))
+                    .toList());
+        }
+    }
+
+    record FinishMatch(String matchId) implements ScoreboardCommand {
+        @Override
+        public void applyTo(MatchRepository matchRepository) {
+            var match = matchRepository.findById(matchId)
+                    .orElseThrow(() -> new MatchNotFoundException(matchId));
+            match.finishMatch();
+            matchRepository.removeTeamsFromActiveMatches(match.getHomeTeamId(), match.getAwayTeamId());
+            matchRepository.put(match);
+        }
+    }
+}
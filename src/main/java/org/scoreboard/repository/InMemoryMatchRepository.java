@@ -1,14 +1,38 @@
 package org.scoreboard.repository;
 
+import org.scoreboard.exception.ViewNotFoundException;
 import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.RankChange;
 
 import java.util.*;
+import java.util.function.Consumer;
 
+import static java.util.Comparator.comparingLong;
 import static java.util.Optional.ofNullable;
 
 public class InMemoryMatchRepository implements MatchRepository {
-    private final Map<String, Match> matches = new HashMap<>();
-    private final Set<String> teamsWithLiveMatches = new HashSet<>();
+    private static final Comparator<MatchView> START_ORDER = comparingLong(MatchView::getStartEpochNanos)
+            .thenComparingLong(MatchView::getStartSequence)
+            .thenComparing(MatchView::getMatchId);
+
+    private final int expectedMatches;
+    private Map<String, Match> matches;
+    private Map<String, Match> liveMatchesByTeam;
+    private final Map<String, List<Match>> finishedMatchesByTeam = new HashMap<>();
+    private final Map<String, MatchIndex> indexes = new HashMap<>();
+    private volatile long modificationVersion;
+
+    public InMemoryMatchRepository() {
+        this(0);
+    }
+
+    public InMemoryMatchRepository(int expectedMatches) {
+        this.expectedMatches = expectedMatches;
+        this.matches = new HashMap<>(capacityFor(expectedMatches));
+        this.liveMatchesByTeam = new HashMap<>();
+    }
 
     @Override
     public Match save(Match match) {
@@ -16,14 +40,43 @@ public class InMemoryMatchRepository implements MatchRepository {
             throw new IllegalArgumentException("There is already a match with provided id: %s".formatted(match.getMatchId()));
         }
         matches.put(match.getMatchId(), match);
-        teamsWithLiveMatches.add(match.getHomeTeam().teamId());
-        teamsWithLiveMatches.add(match.getAwayTeam().teamId());
+        updateIndexes(match);
+        updateTeamLookups(match);
+        modificationVersion++;
         return match;
     }
 
+    @Override
+    public List<Match> saveAll(List<Match> batch) {
+        var batchIds = new HashSet<String>(capacityFor(batch.size()));
+        for (var match : batch) {
+            if (matches.containsKey(match.getMatchId()) || !batchIds.add(match.getMatchId())) {
+                throw new IllegalArgumentException("There is already a match with provided id: %s".formatted(match.getMatchId()));
+            }
+        }
+        if (matches.isEmpty()) {
+            matches = new HashMap<>(capacityFor(Math.max(expectedMatches, batch.size())));
+            liveMatchesByTeam = new HashMap<>(capacityFor(2 * batch.size()));
+        }
+        for (var match : batch) {
+            matches.put(match.getMatchId(), match);
+            updateTeamLookups(match);
+        }
+        indexes.values().forEach(index -> index.updateAll(batch));
+        modificationVersion++;
+        return batch;
+    }
+
     @Override
     public Match put(Match match) {
         matches.put(match.getMatchId(), match);
+        updateIndexes(match);
+        if (match.isFinished()) {
+            updateTeamLookups(match);
+        } else {
+            replaceLiveMatch(match);
+        }
+        modificationVersion++;
         return match;
     }
 
@@ -37,14 +90,141 @@ public class InMemoryMatchRepository implements MatchRepository {
         return new ArrayList<>(matches.values());
     }
 
+    @Override
+    public void forEachMatch(Consumer<? super MatchView> visitor) {
+        matches.values().forEach(visitor);
+    }
+
     @Override
     public void removeTeamsFromActiveMatches(String homeTeamId, String awayTeamId) {
-        teamsWithLiveMatches.remove(homeTeamId);
-        teamsWithLiveMatches.remove(awayTeamId);
+        liveMatchesByTeam.remove(homeTeamId);
+        liveMatchesByTeam.remove(awayTeamId);
+        modificationVersion++;
+    }
+
+    @Override
+    public int removeFinishedMatches(Collection<String> matchIds) {
+        var removed = 0;
+        for (var matchId : matchIds) {
+            var match = matches.get(matchId);
+            if (match == null || !match.isFinished()) {
+                continue;
+            }
+            matches.remove(matchId);
+            for (var teamId : List.of(match.getHomeTeamId(), match.getAwayTeamId())) {
+                var finishedMatches = finishedMatchesByTeam.get(teamId);
+                if (finishedMatches != null) {
+                    var position = Collections.binarySearch(finishedMatches, match, START_ORDER);
+                    if (position >= 0) {
+                        finishedMatches.remove(position);
+                    }
+                    if (finishedMatches.isEmpty()) {
+                        finishedMatchesByTeam.remove(teamId);
+                    }
+                }
+            }
+            removed++;
+        }
+        if (removed > 0) {
+            modificationVersion++;
+        }
+        return removed;
     }
 
     @Override
     public boolean isTeamParticipatingInLiveMatch(String teamId) {
-        return teamsWithLiveMatches.contains(teamId);
+        return liveMatchesByTeam.containsKey(teamId);
+    }
+
+    @Override
+    public Optional<Match> findLiveMatchByTeam(String teamId) {
+        return ofNullable(liveMatchesByTeam.get(teamId));
+    }
+
+    @Override
+    public List<Match> findFinishedMatchesByTeam(String teamId) {
+        return List.copyOf(finishedMatchesByTeam.getOrDefault(teamId, List.of()));
+    }
+
+    @Override
+    public void registerIndex(String indexName, Comparator<MatchView> ordering) {
+        var index = new MatchIndex(ordering);
+        index.updateAll(matches.values());
+        indexes.put(indexName, index);
+    }
+
+    @Override
+    public List<MatchSnapshot> findLiveMatchesOrderedBy(String indexName) {
+        return index(indexName).orderedMatches();
+    }
+
+    @Override
+    public int findRank(String indexName, String matchId) {
+        return index(indexName).rank(matchId);
+    }
+
+    @Override
+    public List<RankChange> findRecentRankChanges(String indexName, int limit) {
+        return index(indexName).recentRankChanges(limit);
+    }
+
+    @Override
+    public long modificationVersion() {
+        return modificationVersion;
+    }
+
+    private MatchIndex index(String indexName) {
+        var index = indexes.get(indexName);
+        if (index == null) {
+            throw new ViewNotFoundException(indexName);
+        }
+        return index;
+    }
+
+    private void updateIndexes(Match match) {
+        indexes.values().forEach(index -> index.update(match));
+    }
+
+    /**
+     * A live match becomes the current match of both teams. A finished one stops being current and is inserted
+     * into the start-ordered history of both teams, storing it again replaces it instead of duplicating it. Histories are usually
+     * stored in start order, so a match later than the latest one is appended without searching.
+     */
+    private void updateTeamLookups(Match match) {
+        for (var teamId : List.of(match.getHomeTeamId(), match.getAwayTeamId())) {
+            if (!match.isFinished()) {
+                liveMatchesByTeam.put(teamId, match);
+                continue;
+            }
+            liveMatchesByTeam.computeIfPresent(teamId, (id, liveMatch) ->
+                    liveMatch.getMatchId().equals(match.getMatchId()) ? null : liveMatch);
+            var finishedMatches = finishedMatchesByTeam.computeIfAbsent(teamId, id -> new ArrayList<>());
+            var position = isLatest(finishedMatches, match)
+                    ? -finishedMatches.size() - 1
+                    : Collections.binarySearch(finishedMatches, match, START_ORDER);
+            if (position < 0) {
+                finishedMatches.add(-position - 1, match);
+            } else {
+                finishedMatches.set(position, match);
+            }
+        }
+    }
+
+    /**
+     * A live match stored again, possibly as another instance, replaces the current match of its teams.
+     */
+    private void replaceLiveMatch(Match match) {
+        for (var teamId : List.of(match.getHomeTeamId(), match.getAwayTeamId())) {
+            liveMatchesByTeam.computeIfPresent(teamId, (id, liveMatch) ->
+                    liveMatch.getMatchId().equals(match.getMatchId()) ? match : liveMatch);
+        }
+    }
+
+    private static boolean isLatest(List<Match> finishedMatches, Match match) {
+        return finishedMatches.isEmpty() || START_ORDER.compare(finishedMatches.get(finishedMatches.size() - 1), match) < 0;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return (int) Math.ceil(expectedSize / 0.75);
     }
 }
@@ -0,0 +1,92 @@
+package org.scoreboard.repository;
+
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.RankChange;
+
+import java.util.*;
+
+/**
+ * Live matches kept ordered by a sorting policy and updated incrementally on every change.
+ * <p>
+ * Callers mutate {@link Match} before storing it, so the index keeps its own immutable {@link MatchSnapshot} of every
+ * entry: the previous position can only be found using the values the match had when it was inserted. The snapshots
+ * are handed out as they are, nothing outside the index can change their position in the tree.
+ * Every update which moves a match to another rank is remembered, up to {@value #RECENT_RANK_CHANGES} changes. Only
+ * the updated match is recorded: the matches it displaced by one place and the ones below a finished match also move,
+ * but listing them would cost up to the whole live set per update instead of a logarithmic tree operation. Finished
+ * matches simply leave the index without a change.
+ */
+final class MatchIndex {
+    static final int RECENT_RANK_CHANGES = 256;
+
+    private final Comparator<MatchView> ordering;
+    private final OrderStatisticTree<MatchSnapshot> orderedMatches;
+    private final Map<String, MatchSnapshot> snapshots = new HashMap<>();
+    private final Deque<RankChange> recentRankChanges = new ArrayDeque<>(RECENT_RANK_CHANGES);
+
+    MatchIndex(Comparator<MatchView> ordering) {
+        this.ordering = ordering.thenComparing(MatchView::getMatchId);
+        this.orderedMatches = new OrderStatisticTree<>(this.ordering);
+    }
+
+    void update(MatchView match) {
+        var previousRank = 0;
+        var previous = snapshots.remove(match.getMatchId());
+        if (previous != null) {
+            previousRank = orderedMatches.rank(previous) + 1;
+            orderedMatches.remove(previous);
+        }
+        if (match.isFinished()) {
+            return;
+        }
+        var snapshot = match.snapshot();
+        orderedMatches.add(snapshot);
+        snapshots.put(snapshot.getMatchId(), snapshot);
+        var currentRank = orderedMatches.rank(snapshot) + 1;
+        if (previousRank != 0 && previousRank != currentRank) {
+            if (recentRankChanges.size() == RECENT_RANK_CHANGES) {
+                recentRankChanges.removeLast();
+            }
+            recentRankChanges.addFirst(new RankChange(match.getMatchId(), previousRank, currentRank));
+        }
+    }
+
+    /**
+     * Adds many matches at once. An empty index sorts the live matches of the batch once and builds its tree from
+     * the sorted list in linear time, instead of inserting entries one by one. A non-empty index updates match by match.
+     */
+    void updateAll(Collection<? extends MatchView> matches) {
+        if (!snapshots.isEmpty()) {
+            matches.forEach(this::update);
+            return;
+        }
+        var liveSnapshots = new ArrayList<MatchSnapshot>(matches.size());
+        for (var match : matches) {
+            if (!match.isFinished()) {
+                liveSnapshots.add(match.snapshot());
+            }
+        }
+        liveSnapshots.sort(ordering);
+        orderedMatches.addAllSorted(liveSnapshots);
+        liveSnapshots.forEach(snapshot -> snapshots.put(snapshot.getMatchId(), snapshot));
+    }
+
+    List<MatchSnapshot> orderedMatches() {
+        return orderedMatches.toList();
+    }
+
+    /**
+     * Returns the 1-based rank of a live match, or {@code 0} when the match is not live.
+     */
+    int rank(String matchId) {
+        var snapshot = snapshots.get(matchId);
+        return snapshot == null ? 0 : orderedMatches.rank(snapshot) + 1;
+    }
+
+    List<RankChange> recentRankChanges(int limit) {
+        return recentRankChanges.stream()
+                .limit(limit)
+                .toList();
+    }
+}
@@ -1,20 +1,73 @@
 package org.scoreboard.repository;
 
 import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.RankChange;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface MatchRepository {
     Match save(Match match);
 
+    /**
+     * Stores a batch of matches at once, rejecting the whole batch if any match id is already taken.
+     */
+    List<Match> saveAll(List<Match> matches);
+
     Match put(Match match);
 
     Optional<Match> findById(String matchId);
 
     List<Match> findAll();
 
+    /**
+     * Visits every stored match without copying it. The view may be a flyweight which is only valid until the
+     * visitor returns, use {@link MatchView#retain()} or {@link MatchView#snapshot()} to keep it.
+     */
+    void forEachMatch(Consumer<? super MatchView> visitor);
+
     void removeTeamsFromActiveMatches(String homeTeamId, String awayTeamId);
 
+    /**
+     * Drops finished matches, e.g. once they are archived. Unknown ids and live matches are left alone.
+     * Returns the number of removed matches.
+     */
+    int removeFinishedMatches(Collection<String> matchIds);
+
     boolean isTeamParticipatingInLiveMatch(String teamId);
+
+    Optional<Match> findLiveMatchByTeam(String teamId);
+
+    /**
+     * Returns the finished matches of a team, ordered by start time from the oldest.
+     */
+    List<Match> findFinishedMatchesByTeam(String teamId);
+
+    void registerIndex(String indexName, Comparator<MatchView> ordering);
+
+    /**
+     * Returns immutable snapshots of the live matches in the order of the registered index.
+     */
+    List<MatchSnapshot> findLiveMatchesOrderedBy(String indexName);
+
+    /**
+     * Returns the 1-based position of a live match in the index, or {@code 0} when the match is not live.
+     */
+    int findRank(String indexName, String matchId);
+
+    /**
+     * Returns the latest updates which moved the updated match itself to another position in the index, most recent
+     * first. Matches shifted by another match's update and matches leaving the index when they finish are not listed.
+     */
+    List<RankChange> findRecentRankChanges(String indexName, int limit);
+
+    /**
+     * Returns a counter which changes on every modification of stored matches, so derived data can be cached per version.
+     */
+    long modificationVersion();
 }
@@ -0,0 +1,507 @@
+package org.scoreboard.repository;
+
+import org.scoreboard.exception.ViewNotFoundException;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.RankChange;
+import org.scoreboard.model.Team;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Match repository keeping stored matches outside the Java heap, so millions of finished matches add neither
+ * objects nor map entries for the garbage collector to scan.
+ * <p>
+ * Matches are stored as fixed-size records in direct buffers allocated in chunks up to {@code maxMatches}, and
+ * looked up through an off-heap open-addressing table keyed by match id. Teams are dictionary-encoded, only the
+ * dictionary, the per-team lookups of record numbers and the registered indexes of live matches stay on the heap.
+ * <p>
+ * Unlike {@link InMemoryMatchRepository}, {@link #findById(String)} and {@link #findAll()} return detached copies,
+ * a changed match has to be stored again with {@link #put(Match)}. {@link #forEachMatch} reads records in place.
+ * Off-heap memory is freed by the garbage collector, not by {@link #close()}. Not thread-safe.
+ */
+public class OffHeapMatchRepository implements MatchRepository, AutoCloseable {
+    static final int MAX_MATCH_ID_BYTES = 46;
+
+    private static final int START_EPOCH_NANOS_OFFSET = 0;
+    private static final int START_SEQUENCE_OFFSET = 8;
+    private static final int HOME_TEAM_OFFSET = 16;
+    private static final int AWAY_TEAM_OFFSET = 20;
+    private static final int HOME_SCORE_OFFSET = 24;
+    private static final int AWAY_SCORE_OFFSET = 28;
+    private static final int FINISHED_OFFSET = 32;
+    private static final int MATCH_ID_LENGTH_OFFSET = 33;
+    private static final int MATCH_ID_OFFSET = 34;
+    private static final int RECORD_SIZE = MATCH_ID_OFFSET + MAX_MATCH_ID_BYTES;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int RECORDS_PER_CHUNK = 1 << CHUNK_BITS;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+    private static final int MAX_SLOTS = 1 << 27;
+
+    private final int maxMatches;
+    private final int slotMask;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer slots;
+    private int size;
+
+    private final List<Team> teams = new ArrayList<>();
+    private final Map<Team, Integer> teamOrdinals = new HashMap<>();
+    private final Map<String, Integer> liveRecordsByTeam = new HashMap<>();
+    private final Map<String, TeamHistory> finishedRecordsByTeam = new HashMap<>();
+    private final Map<String, MatchIndex> indexes = new HashMap<>();
+    private volatile long modificationVersion;
+
+    /**
+     * @param maxMatches memory budget expressed in stored matches; records take {@value #RECORD_SIZE} bytes each
+     *                   and are allocated lazily, the id lookup table is allocated up front
+     */
+    public OffHeapMatchRepository(int maxMatches) {
+        if (maxMatches <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got %d".formatted(maxMatches));
+        }
+        var slotCount = slotCount(maxMatches);
+        if (slotCount * MAX_LOAD_FACTOR < maxMatches) {
+            throw new IllegalArgumentException("Capacity %d exceeds the largest supported lookup table".formatted(maxMatches));
+        }
+        this.maxMatches = maxMatches;
+        this.slotMask = slotCount - 1;
+        this.slots = ByteBuffer.allocateDirect(slotCount * Long.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    public static long requiredBytes(int maxMatches) {
+        return (long) maxMatches * RECORD_SIZE + (long) slotCount(maxMatches) * Long.BYTES;
+    }
+
+    @Override
+    public Match save(Match match) {
+        ensureOpen();
+        if (findRecord(match.getMatchId()) >= 0) {
+            throw new IllegalArgumentException("There is already a match with provided id: %s".formatted(match.getMatchId()));
+        }
+        var record = append(match);
+        updateIndexes(match);
+        updateTeamLookups(record, match);
+        modificationVersion++;
+        return match;
+    }
+
+    @Override
+    public List<Match> saveAll(List<Match> batch) {
+        ensureOpen();
+        if (size + batch.size() > maxMatches) {
+            throw new IllegalStateException("Off-heap match repository is full, capacity: %d".formatted(maxMatches));
+        }
+        var batchIds = new HashSet<String>();
+        for (var match : batch) {
+            validateMatchId(match.getMatchId());
+            if (findRecord(match.getMatchId()) >= 0 || !batchIds.add(match.getMatchId())) {
+                throw new IllegalArgumentException("There is already a match with provided id: %s".formatted(match.getMatchId()));
+            }
+        }
+        for (var match : batch) {
+            updateTeamLookups(append(match), match);
+        }
+        indexes.values().forEach(index -> index.updateAll(batch));
+        modificationVersion++;
+        return batch;
+    }
+
+    @Override
+    public Match put(Match match) {
+        ensureOpen();
+        var record = findRecord(match.getMatchId());
+        if (record >= 0) {
+            write(record, match);
+        } else {
+            record = append(match);
+        }
+        updateIndexes(match);
+        if (match.isFinished()) {
+            updateTeamLookups(record, match);
+        }
+        modificationVersion++;
+        return match;
+    }
+
+    @Override
+    public Optional<Match> findById(String matchId) {
+        ensureOpen();
+        var record = findRecord(matchId);
+        return record >= 0 ? Optional.of(read(record)) : Optional.empty();
+    }
+
+    @Override
+    public List<Match> findAll() {
+        ensureOpen();
+        var matches = new ArrayList<Match>(size);
+        for (int record = 0; record < size; record++) {
+            matches.add(read(record));
+        }
+        return matches;
+    }
+
+    /**
+     * Visits all records through a single flyweight reading straight from the buffers, only the match id is
+     * decoded on demand.
+     */
+    @Override
+    public void forEachMatch(Consumer<? super MatchView> visitor) {
+        ensureOpen();
+        var view = new RecordView();
+        for (view.record = 0; view.record < size; view.record++) {
+            visitor.accept(view);
+        }
+    }
+
+    @Override
+    public void removeTeamsFromActiveMatches(String homeTeamId, String awayTeamId) {
+        ensureOpen();
+        liveRecordsByTeam.remove(homeTeamId);
+        liveRecordsByTeam.remove(awayTeamId);
+        modificationVersion++;
+    }
+
+    /**
+     * Not supported: records are never freed, and finished matches already live off heap.
+     */
+    @Override
+    public int removeFinishedMatches(Collection<String> matchIds) {
+        throw new UnsupportedOperationException("Off-heap match repository does not remove stored matches");
+    }
+
+    @Override
+    public boolean isTeamParticipatingInLiveMatch(String teamId) {
+        ensureOpen();
+        return liveRecordsByTeam.containsKey(teamId);
+    }
+
+    @Override
+    public Optional<Match> findLiveMatchByTeam(String teamId) {
+        ensureOpen();
+        return ofNullable(liveRecordsByTeam.get(teamId)).map(this::read);
+    }
+
+    @Override
+    public List<Match> findFinishedMatchesByTeam(String teamId) {
+        ensureOpen();
+        var history = finishedRecordsByTeam.get(teamId);
+        if (history == null) {
+            return List.of();
+        }
+        var matches = new ArrayList<Match>(history.size);
+        for (int i = 0; i < history.size; i++) {
+            matches.add(read(history.records[i]));
+        }
+        return matches;
+    }
+
+    @Override
+    public void registerIndex(String indexName, Comparator<MatchView> ordering) {
+        ensureOpen();
+        // Finished records are skipped in place, only live ones are snapshotted for the index.
+        var liveMatches = new ArrayList<MatchSnapshot>(liveRecordsByTeam.size() / 2);
+        forEachMatch(match -> {
+            if (!match.isFinished()) {
+                liveMatches.add(match.snapshot());
+            }
+        });
+        var index = new MatchIndex(ordering);
+        index.updateAll(liveMatches);
+        indexes.put(indexName, index);
+    }
+
+    @Override
+    public List<MatchSnapshot> findLiveMatchesOrderedBy(String indexName) {
+        return index(indexName).orderedMatches();
+    }
+
+    @Override
+    public int findRank(String indexName, String matchId) {
+        return index(indexName).rank(matchId);
+    }
+
+    @Override
+    public List<RankChange> findRecentRankChanges(String indexName, int limit) {
+        return index(indexName).recentRankChanges(limit);
+    }
+
+    @Override
+    public long modificationVersion() {
+        return modificationVersion;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return maxMatches;
+    }
+
+    /**
+     * Drops all off-heap buffers and rejects further access. Closing does not free the memory itself: JDK 17 has no
+     * supported way to release a direct buffer, so it is returned only when the garbage collector reclaims the
+     * dropped buffers, and counts against {@code -XX:MaxDirectMemorySize} until then. Callers replacing a large
+     * repository should expect both to be reserved for a while.
+     */
+    @Override
+    public void close() {
+        chunks.clear();
+        slots = null;
+        teams.clear();
+        teamOrdinals.clear();
+        liveRecordsByTeam.clear();
+        finishedRecordsByTeam.clear();
+        indexes.clear();
+        size = 0;
+    }
+
+    private int append(Match match) {
+        if (size == maxMatches) {
+            throw new IllegalStateException("Off-heap match repository is full, capacity: %d".formatted(maxMatches));
+        }
+        var matchId = validateMatchId(match.getMatchId());
+        var record = size;
+        if (record >>> CHUNK_BITS == chunks.size()) {
+            var recordsInChunk = Math.min(RECORDS_PER_CHUNK, maxMatches - record);
+            chunks.add(ByteBuffer.allocateDirect(recordsInChunk * RECORD_SIZE).order(ByteOrder.nativeOrder()));
+        }
+        var chunk = chunk(record);
+        var offset = offset(record);
+        chunk.put(offset + MATCH_ID_LENGTH_OFFSET, (byte) matchId.length);
+        chunk.put(offset + MATCH_ID_OFFSET, matchId);
+        write(record, match);
+        insertSlot(hash(matchId), record);
+        size++;
+        return record;
+    }
+
+    private void write(int record, Match match) {
+        var chunk = chunk(record);
+        var offset = offset(record);
+        chunk.putLong(offset + START_EPOCH_NANOS_OFFSET, match.getStartEpochNanos());
+        chunk.putLong(offset + START_SEQUENCE_OFFSET, match.getStartSequence());
+        chunk.putInt(offset + HOME_TEAM_OFFSET, teamOrdinal(match.getHomeTeam()));
+        chunk.putInt(offset + AWAY_TEAM_OFFSET, teamOrdinal(match.getAwayTeam()));
+        chunk.putInt(offset + HOME_SCORE_OFFSET, match.getHomeScore());
+        chunk.putInt(offset + AWAY_SCORE_OFFSET, match.getAwayScore());
+        chunk.put(offset + FINISHED_OFFSET, (byte) (match.isFinished() ? 1 : 0));
+    }
+
+    private Match read(int record) {
+        var chunk = chunk(record);
+        var offset = offset(record);
+        var matchId = new byte[chunk.get(offset + MATCH_ID_LENGTH_OFFSET)];
+        chunk.get(offset + MATCH_ID_OFFSET, matchId);
+        return new Match(
+                new String(matchId, StandardCharsets.UTF_8),
+                teams.get(chunk.getInt(offset + HOME_TEAM_OFFSET)),
+                teams.get(chunk.getInt(offset + AWAY_TEAM_OFFSET)),
+                chunk.getInt(offset + HOME_SCORE_OFFSET),
+                chunk.getInt(offset + AWAY_SCORE_OFFSET),
+                chunk.get(offset + FINISHED_OFFSET) == 1,
+                chunk.getLong(offset + START_EPOCH_NANOS_OFFSET),
+                chunk.getLong(offset + START_SEQUENCE_OFFSET));
+    }
+
+    /**
+     * Slots hold the id hash in the upper half and {@code record + 1} in the lower half, zero marks an empty slot.
+     * Matches are never removed, so probing needs no tombstones.
+     */
+    private int findRecord(String matchId) {
+        var matchIdBytes = matchId.getBytes(StandardCharsets.UTF_8);
+        var hash = hash(matchIdBytes);
+        for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+            var entry = slots.getLong(slot * Long.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            var record = (int) entry - 1;
+            if ((int) (entry >>> 32) == hash && matchIdEquals(record, matchIdBytes)) {
+                return record;
+            }
+        }
+    }
+
+    private void insertSlot(int hash, int record) {
+        var slot = hash & slotMask;
+        while (slots.getLong(slot * Long.BYTES) != 0) {
+            slot = (slot + 1) & slotMask;
+        }
+        slots.putLong(slot * Long.BYTES, ((long) hash << 32) | (record + 1L));
+    }
+
+    private boolean matchIdEquals(int record, byte[] matchId) {
+        var chunk = chunk(record);
+        var offset = offset(record);
+        if (chunk.get(offset + MATCH_ID_LENGTH_OFFSET) != matchId.length) {
+            return false;
+        }
+        for (int i = 0; i < matchId.length; i++) {
+            if (chunk.get(offset + MATCH_ID_OFFSET + i) != matchId[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int teamOrdinal(Team team) {
+        return teamOrdinals.computeIfAbsent(team, newTeam -> {
+            teams.add(newTeam);
+            return teams.size() - 1;
+        });
+    }
+
+    /**
+     * Mirrors {@link InMemoryMatchRepository}: a live match becomes the current match of both teams, a finished one
+     * moves into their histories. Histories hold record numbers only, ordered by the start time stored in the record.
+     */
+    private void updateTeamLookups(int record, Match match) {
+        for (var teamId : List.of(match.getHomeTeamId(), match.getAwayTeamId())) {
+            if (!match.isFinished()) {
+                liveRecordsByTeam.put(teamId, record);
+                continue;
+            }
+            liveRecordsByTeam.remove(teamId, record);
+            finishedRecordsByTeam.computeIfAbsent(teamId, id -> new TeamHistory()).insert(record);
+        }
+    }
+
+    private int compareStart(int record, int otherRecord) {
+        var chunk = chunk(record);
+        var otherChunk = chunk(otherRecord);
+        var comparison = Long.compare(
+                chunk.getLong(offset(record) + START_EPOCH_NANOS_OFFSET),
+                otherChunk.getLong(offset(otherRecord) + START_EPOCH_NANOS_OFFSET));
+        if (comparison == 0) {
+            comparison = Long.compare(
+                    chunk.getLong(offset(record) + START_SEQUENCE_OFFSET),
+                    otherChunk.getLong(offset(otherRecord) + START_SEQUENCE_OFFSET));
+        }
+        return comparison != 0 ? comparison : Integer.compare(record, otherRecord);
+    }
+
+    private MatchIndex index(String indexName) {
+        ensureOpen();
+        return ofNullable(indexes.get(indexName))
+                .orElseThrow(() -> new ViewNotFoundException(indexName));
+    }
+
+    private void updateIndexes(Match match) {
+        indexes.values().forEach(index -> index.update(match));
+    }
+
+    private ByteBuffer chunk(int record) {
+        return chunks.get(record >>> CHUNK_BITS);
+    }
+
+    private void ensureOpen() {
+        if (slots == null) {
+            throw new IllegalStateException("Off-heap match repository is closed");
+        }
+    }
+
+    private static int offset(int record) {
+        return (record & (RECORDS_PER_CHUNK - 1)) * RECORD_SIZE;
+    }
+
+    private static byte[] validateMatchId(String matchId) {
+        var bytes = matchId.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_MATCH_ID_BYTES) {
+            throw new IllegalArgumentException("Match id %s exceeds %d bytes".formatted(matchId, MAX_MATCH_ID_BYTES));
+        }
+        return bytes;
+    }
+
+    private static int slotCount(int maxMatches) {
+        var requiredSlots = (int) Math.min(MAX_SLOTS, Math.ceil(maxMatches / MAX_LOAD_FACTOR));
+        return Integer.highestOneBit(requiredSlots * 2 - 1);
+    }
+
+    private static int hash(byte[] matchId) {
+        var hash = Arrays.hashCode(matchId);
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class TeamHistory {
+        private int[] records = new int[4];
+        private int size;
+
+        private void insert(int record) {
+            var low = 0;
+            var high = size - 1;
+            while (low <= high) {
+                var middle = (low + high) >>> 1;
+                var comparison = compareStart(records[middle], record);
+                if (comparison == 0) {
+                    return;
+                }
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            if (size == records.length) {
+                records = Arrays.copyOf(records, size * 2);
+            }
+            System.arraycopy(records, low, records, low + 1, size - low);
+            records[low] = record;
+            size++;
+        }
+    }
+
+    private final class RecordView implements MatchView {
+        private int record;
+
+        @Override
+        public String getMatchId() {
+            var matchId = new byte[chunk(record).get(offset(record) + MATCH_ID_LENGTH_OFFSET)];
+            chunk(record).get(offset(record) + MATCH_ID_OFFSET, matchId);
+            return new String(matchId, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Team getHomeTeam() {
+            return teams.get(chunk(record).getInt(offset(record) + HOME_TEAM_OFFSET));
+        }
+
+        @Override
+        public Team getAwayTeam() {
+            return teams.get(chunk(record).getInt(offset(record) + AWAY_TEAM_OFFSET));
+        }
+
+        @Override
+        public int getHomeScore() {
+            return chunk(record).getInt(offset(record) + HOME_SCORE_OFFSET);
+        }
+
+        @Override
+        public int getAwayScore() {
+            return chunk(record).getInt(offset(record) + AWAY_SCORE_OFFSET);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return chunk(record).get(offset(record) + FINISHED_OFFSET) == 1;
+        }
+
+        @Override
+        public long getStartEpochNanos() {
+            return chunk(record).getLong(offset(record) + START_EPOCH_NANOS_OFFSET);
+        }
+
+        @Override
+        public long getStartSequence() {
+            return chunk(record).getLong(offset(record) + START_SEQUENCE_OFFSET);
+        }
+    }
+}
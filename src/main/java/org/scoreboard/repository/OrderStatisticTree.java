@@ -0,0 +1,192 @@
+package org.scoreboard.repository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Treap with subtree sizes, so besides ordered insertion and removal it answers the rank of an element in
+ * O(log n) expected time. Elements must be distinct according to the comparator.
+ */
+final class OrderStatisticTree<E> {
+    private final Comparator<? super E> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<E> root;
+
+    OrderStatisticTree(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void add(E element) {
+        root = insert(root, new Node<>(element, random.nextInt()));
+    }
+
+    void remove(E element) {
+        root = remove(root, element);
+    }
+
+    /**
+     * Returns the number of elements ordered before {@code element}, or {@code -1} when it is not in the tree.
+     */
+    int rank(E element) {
+        var rank = 0;
+        var node = root;
+        while (node != null) {
+            var comparison = comparator.compare(element, node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the content with already sorted elements in linear time, building the treap as a Cartesian tree.
+     */
+    void addAllSorted(List<E> sortedElements) {
+        if (root != null) {
+            throw new IllegalStateException("Sorted elements can only be added to an empty tree");
+        }
+        var rightSpine = new ArrayDeque<Node<E>>();
+        for (var element : sortedElements) {
+            var node = new Node<>(element, random.nextInt());
+            Node<E> lastPopped = null;
+            while (!rightSpine.isEmpty() && rightSpine.peek().priority < node.priority) {
+                lastPopped = rightSpine.pop();
+            }
+            node.left = lastPopped;
+            if (!rightSpine.isEmpty()) {
+                rightSpine.peek().right = node;
+            }
+            rightSpine.push(node);
+        }
+        root = rightSpine.peekLast();
+        recomputeSizes(root);
+    }
+
+    List<E> toList() {
+        var elements = new ArrayList<E>(size());
+        var path = new ArrayDeque<Node<E>>();
+        var node = root;
+        while (node != null || !path.isEmpty()) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            node = path.pop();
+            elements.add(node.element);
+            node = node.right;
+        }
+        return elements;
+    }
+
+    private Node<E> insert(Node<E> node, Node<E> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (comparator.compare(inserted.element, node.element) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        node.updateSize();
+        return node;
+    }
+
+    private Node<E> remove(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        var comparison = comparator.compare(element, node.element);
+        if (comparison < 0) {
+            node.left = remove(node.left, element);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, element);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.updateSize();
+        return node;
+    }
+
+    private Node<E> merge(Node<E> lower, Node<E> upper) {
+        if (lower == null) {
+            return upper;
+        }
+        if (upper == null) {
+            return lower;
+        }
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            lower.updateSize();
+            return lower;
+        }
+        upper.left = merge(lower, upper.left);
+        upper.updateSize();
+        return upper;
+    }
+
+    private Node<E> rotateRight(Node<E> node) {
+        var left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.updateSize();
+        left.updateSize();
+        return left;
+    }
+
+    private Node<E> rotateLeft(Node<E> node) {
+        var right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.updateSize();
+        right.updateSize();
+        return right;
+    }
+
+    private int recomputeSizes(Node<E> node) {
+        if (node == null) {
+            return 0;
+        }
+        node.size = recomputeSizes(node.left) + recomputeSizes(node.right) + 1;
+        return node.size;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<E> {
+        private final E element;
+        private final int priority;
+        private Node<E> left;
+        private Node<E> right;
+        private int size = 1;
+
+        private Node(E element, int priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+
+        private void updateSize() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.scoreboard.service;
+
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.MatchView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Builds the summary of a large live set on a fork-join pool: live matches are split into chunks which are sorted
+ * and formatted in parallel, then the sorted chunks are k-way merged. Ties keep their original order, so the result
+ * is the same as a sequential stable sort. Live sets below the threshold or too small to split into two chunks, or
+ * any live set on a single worker pool, are built sequentially, because forking costs more than it saves there.
+ * <p>
+ * There is no default threshold: the crossover depends on core count, pool load and sorting policy, so measure it
+ * with {@code SummaryBenchmark} on the target hardware and pass it explicitly.
+ */
+public class ParallelSummary {
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int MIN_CHUNK_SIZE = 1_024;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelSummary(ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive, got %d".formatted(threshold));
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public static ParallelSummary commonPool(int threshold) {
+        return new ParallelSummary(ForkJoinPool.commonPool(), threshold);
+    }
+
+    public List<MatchSummary> build(List<? extends MatchView> liveMatches, Comparator<MatchView> ordering) {
+        var matches = liveMatches.toArray(new MatchView[0]);
+        if (matches.length < threshold || matches.length < 2 * MIN_CHUNK_SIZE || pool.getParallelism() == 1) {
+            Arrays.sort(matches, ordering);
+            return Arrays.stream(matches)
+                    .map(MatchSummary::generateSummary)
+                    .toList();
+        }
+        var summaries = new MatchSummary[matches.length];
+        var chunkCount = Math.min(pool.getParallelism() * CHUNKS_PER_WORKER, matches.length / MIN_CHUNK_SIZE);
+        var chunkSize = (matches.length + chunkCount - 1) / chunkCount;
+        pool.invoke(new SortChunks(matches, summaries, ordering, chunkSize, 0, chunkCount));
+        return merge(matches, summaries, ordering, chunkSize, chunkCount);
+    }
+
+    private static List<MatchSummary> merge(MatchView[] matches, MatchSummary[] summaries, Comparator<MatchView> ordering,
+                                            int chunkSize, int chunkCount) {
+        var heads = new int[chunkCount];
+        var ends = new int[chunkCount];
+        var queue = new PriorityQueue<Integer>(chunkCount, (chunk, other) -> {
+            var comparison = ordering.compare(matches[heads[chunk]], matches[heads[other]]);
+            return comparison != 0 ? comparison : Integer.compare(chunk, other);
+        });
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            heads[chunk] = chunk * chunkSize;
+            ends[chunk] = Math.min(heads[chunk] + chunkSize, matches.length);
+            if (heads[chunk] < ends[chunk]) {
+                queue.add(chunk);
+            }
+        }
+        var merged = new ArrayList<MatchSummary>(matches.length);
+        while (!queue.isEmpty()) {
+            var chunk = queue.poll();
+            merged.add(summaries[heads[chunk]++]);
+            if (heads[chunk] < ends[chunk]) {
+                queue.add(chunk);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Sorts and formats chunks {@code [fromChunk, toChunk)} in place, halving the range until a single chunk is left.
+     */
+    @SuppressWarnings("serial")
+    private static final class SortChunks extends RecursiveAction {
+        private final MatchView[] matches;
+        private final MatchSummary[] summaries;
+        private final Comparator<MatchView> ordering;
+        private final int chunkSize;
+        private final int fromChunk;
+        private final int toChunk;
+
+        private SortChunks(MatchView[] matches, MatchSummary[] summaries, Comparator<MatchView> ordering,
+                           int chunkSize, int fromChunk, int toChunk) {
+            this.matches = matches;
+            this.summaries = summaries;
+            this.ordering = ordering;
+            this.chunkSize = chunkSize;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                var middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(
+                        new SortChunks(matches, summaries, ordering, chunkSize, fromChunk, middle),
+                        new SortChunks(matches, summaries, ordering, chunkSize, middle, toChunk));
+                return;
+            }
+            var from = Math.min(fromChunk * chunkSize, matches.length);
+            var to = Math.min(from + chunkSize, matches.length);
+            Arrays.sort(matches, from, to, ordering);
+            for (int i = from; i < to; i++) {
+                summaries[i] = MatchSummary.generateSummary(matches[i]);
+            }
+        }
+    }
+}
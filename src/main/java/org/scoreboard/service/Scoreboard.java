@@ -2,9 +2,11 @@ package org.scoreboard.service;
 
 import org.scoreboard.model.Match;
 import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.RankChange;
 import org.scoreboard.model.Team;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface Scoreboard {
     Match startMatch(Team homeTeam, Team awayTeam);
@@ -13,5 +15,13 @@ public interface Scoreboard {
 
     Match finishMatch(String matchId);
 
+    List<Match> importMatches(Stream<Match> matches);
+
     List<MatchSummary> getSummary();
+
+    List<MatchSummary> getSummary(String viewName);
+
+    int getRank(String viewName, String matchId);
+
+    List<RankChange> getRecentlyMoved(String viewName, int limit);
 }
@@ -1,74 +1,233 @@
 package org.scoreboard.service;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.scoreboard.exception.MatchNotFoundException;
 import org.scoreboard.exception.OngoingMatchException;
+import org.scoreboard.jfr.MatchFinishedEvent;
+import org.scoreboard.jfr.MatchStartedEvent;
+import org.scoreboard.jfr.RepositoryLookupEvent;
+import org.scoreboard.jfr.ScoreUpdatedEvent;
+import org.scoreboard.jfr.SummaryBuiltEvent;
 import org.scoreboard.model.Match;
 import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.RankChange;
 import org.scoreboard.model.Team;
 import org.scoreboard.repository.InMemoryMatchRepository;
 import org.scoreboard.repository.MatchRepository;
+import org.scoreboard.time.MatchClock;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
 import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
 
 @RequiredArgsConstructor
 public class WorldCupScoreboard implements Scoreboard {
+    @Getter
     private final MatchRepository matchRepository;
 
-    private final Comparator<Match> sortingPolicy;
+    private final Comparator<MatchView> sortingPolicy;
+
+    @Getter
+    private final MatchClock clock;
+
+    /**
+     * Builds the default summary once the live set reaches its threshold, {@code null} keeps it sequential.
+     */
+    private final ParallelSummary parallelSummary;
+
+    public WorldCupScoreboard(MatchRepository matchRepository, Comparator<MatchView> sortingPolicy) {
+        this(matchRepository, sortingPolicy, MatchClock.system());
+    }
+
+    public WorldCupScoreboard(MatchRepository matchRepository, Comparator<MatchView> sortingPolicy, MatchClock clock) {
+        this(matchRepository, sortingPolicy, clock, null);
+    }
 
     public static Scoreboard create() {
+        return create(MatchClock.system());
+    }
+
+    public static Scoreboard create(MatchClock clock) {
         return new WorldCupScoreboard(
                 new InMemoryMatchRepository(),
                 highestScoringMatchesFirst()
-                        .thenComparing(mostRecentlyStartedMatchesFirst()));
+                        .thenComparing(mostRecentlyStartedMatchesFirst()),
+                clock);
     }
 
     @Override
     public Match startMatch(Team homeTeam, Team awayTeam) {
-        var match = new Match(homeTeam, awayTeam);
-        validateNoOngoingTeamMatches(homeTeam);
-        validateNoOngoingTeamMatches(awayTeam);
+        var event = new MatchStartedEvent();
+        event.begin();
+        Match startedMatch = null;
+        try {
+            Match.validateTeams(homeTeam, awayTeam);
+            validateNoOngoingTeamMatches(homeTeam);
+            validateNoOngoingTeamMatches(awayTeam);
 
-        return matchRepository.save(match);
+            startedMatch = matchRepository.save(new Match(homeTeam, awayTeam, clock));
+            return startedMatch;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.complete(homeTeam, awayTeam, startedMatch);
+        }
     }
 
     @Override
     public Match updateScore(String matchId, int homeScore, int awayScore) {
-        var match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new MatchNotFoundException(matchId));
-        match.setHomeScore(homeScore);
-        match.setAwayScore(awayScore);
+        var event = new ScoreUpdatedEvent();
+        event.begin();
+        try {
+            var match = findMatch(matchId);
+            match.setHomeScore(homeScore);
+            match.setAwayScore(awayScore);
 
-        return matchRepository.put(match);
+            return matchRepository.put(match);
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.complete(matchId, homeScore, awayScore);
+        }
     }
 
     @Override
     public Match finishMatch(String matchId) {
-        var match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new MatchNotFoundException(matchId));
-        match.finishMatch();
+        var event = new MatchFinishedEvent();
+        event.begin();
+        try {
+            var match = findMatch(matchId);
+            match.finishMatch();
 
-        matchRepository.removeTeamsFromActiveMatches(match.getHomeTeamId(), match.getAwayTeamId());
-        return matchRepository.put(match);
+            matchRepository.removeTeamsFromActiveMatches(match.getHomeTeamId(), match.getAwayTeamId());
+            return matchRepository.put(match);
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.complete(matchId);
+        }
     }
 
+    @Override
+    public List<Match> importMatches(Stream<Match> matches) {
+        var batch = matches.toList();
+        var teamsInBatch = new HashSet<String>();
+        for (var match : batch) {
+            if (!match.isFinished()) {
+                validateNoOngoingTeamMatches(match.getHomeTeam(), teamsInBatch);
+                validateNoOngoingTeamMatches(match.getAwayTeam(), teamsInBatch);
+            }
+        }
+
+        return matchRepository.saveAll(batch);
+    }
+
+    /**
+     * Sorts the live matches by reference when the repository visits its stored matches, only flyweight views are
+     * copied. Like the repositories it reads, the summary is not isolated from concurrent writers.
+     */
     @Override
     public List<MatchSummary> getSummary() {
-        return matchRepository.findAll().stream()
-                .filter(match -> !match.isFinished())
-                .sorted(sortingPolicy)
-                .map(MatchSummary::generateSummary)
-                .toList();
+        var event = new SummaryBuiltEvent();
+        event.begin();
+        List<MatchSummary> summary = List.of();
+        try {
+            var liveMatches = new ArrayList<MatchView>();
+            matchRepository.forEachMatch(match -> {
+                if (!match.isFinished()) {
+                    liveMatches.add(match.retain());
+                }
+            });
+            var sortStart = event.startSort();
+            if (parallelSummary != null) {
+                summary = parallelSummary.build(liveMatches, sortingPolicy);
+                event.sorted(sortStart);
+            } else {
+                liveMatches.sort(sortingPolicy);
+                event.sorted(sortStart);
+                summary = liveMatches.stream()
+                        .map(MatchSummary::generateSummary)
+                        .toList();
+            }
+            return summary;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.complete(SummaryBuiltEvent.DEFAULT_VIEW, summary.size());
+        }
+    }
+
+    @Override
+    public List<MatchSummary> getSummary(String viewName) {
+        var event = new SummaryBuiltEvent();
+        event.begin();
+        List<MatchSummary> summary = List.of();
+        try {
+            summary = matchRepository.findLiveMatchesOrderedBy(viewName).stream()
+                    .map(MatchSummary::generateSummary)
+                    .toList();
+            return summary;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.complete(viewName, summary.size());
+        }
+    }
+
+    @Override
+    public int getRank(String viewName, String matchId) {
+        var rank = matchRepository.findRank(viewName, matchId);
+        if (rank == 0) {
+            throw new MatchNotFoundException(matchId);
+        }
+        return rank;
+    }
+
+    @Override
+    public List<RankChange> getRecentlyMoved(String viewName, int limit) {
+        return matchRepository.findRecentRankChanges(viewName, limit);
+    }
+
+    public WorldCupScoreboard registerView(String viewName, Comparator<MatchView> viewSortingPolicy) {
+        matchRepository.registerIndex(viewName, viewSortingPolicy);
+        return this;
+    }
+
+    private Match findMatch(String matchId) {
+        var event = new RepositoryLookupEvent();
+        event.begin();
+        var match = matchRepository.findById(matchId);
+        event.complete("findById", matchId, match.isPresent());
+        return match.orElseThrow(() -> new MatchNotFoundException(matchId));
     }
 
     private void validateNoOngoingTeamMatches(Team team) {
-        if (matchRepository.isTeamParticipatingInLiveMatch(team.teamId())) {
+        var event = new RepositoryLookupEvent();
+        event.begin();
+        var participating = matchRepository.isTeamParticipatingInLiveMatch(team.teamId());
+        event.complete("isTeamParticipatingInLiveMatch", team.teamId(), participating);
+        if (participating) {
+            throw new OngoingMatchException(team.teamId());
+        }
+    }
+
+    private void validateNoOngoingTeamMatches(Team team, Set<String> teamsInBatch) {
+        if (!teamsInBatch.add(team.teamId())) {
             throw new OngoingMatchException(team.teamId());
         }
+        validateNoOngoingTeamMatches(team);
     }
 }
@@ -0,0 +1,101 @@
+package org.scoreboard.shared;
+
+import lombok.RequiredArgsConstructor;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.RankChange;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.Scoreboard;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Publishes the live summary of the decorated scoreboard into a memory-mapped region after every change,
+ * so readers in other processes can use {@link SharedScoreboardReader} instead of keeping their own copy.
+ * <p>
+ * A summary which does not fit into the region does not fail the change which already succeeded on the decorated
+ * scoreboard: the region is marked stale for readers and the failure is counted in {@link #getFailedPublishes()}.
+ * <p>
+ * Every change republishes the whole summary, so each mutation pays a full {@code getSummary()} of
+ * O(n log n) for n live matches plus the encoding of every line. That suits scoreboards of a few hundred live
+ * matches; feeds with more matches or heavy update rates should publish on a tick instead.
+ */
+@RequiredArgsConstructor
+public class SharedMemoryScoreboard implements Scoreboard, AutoCloseable {
+    private final Scoreboard scoreboard;
+    private final SharedScoreboardWriter writer;
+    private long failedPublishes;
+
+    public static SharedMemoryScoreboard publishing(Scoreboard scoreboard, Path path, int capacity) {
+        var sharedScoreboard = new SharedMemoryScoreboard(scoreboard, new SharedScoreboardWriter(path, capacity));
+        sharedScoreboard.publish();
+        return sharedScoreboard;
+    }
+
+    @Override
+    public Match startMatch(Team homeTeam, Team awayTeam) {
+        var match = scoreboard.startMatch(homeTeam, awayTeam);
+        publish();
+        return match;
+    }
+
+    @Override
+    public Match updateScore(String matchId, int homeScore, int awayScore) {
+        var match = scoreboard.updateScore(matchId, homeScore, awayScore);
+        publish();
+        return match;
+    }
+
+    @Override
+    public Match finishMatch(String matchId) {
+        var match = scoreboard.finishMatch(matchId);
+        publish();
+        return match;
+    }
+
+    @Override
+    public List<Match> importMatches(Stream<Match> matches) {
+        var imported = scoreboard.importMatches(matches);
+        publish();
+        return imported;
+    }
+
+    @Override
+    public List<MatchSummary> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    @Override
+    public List<MatchSummary> getSummary(String viewName) {
+        return scoreboard.getSummary(viewName);
+    }
+
+    @Override
+    public int getRank(String viewName, String matchId) {
+        return scoreboard.getRank(viewName, matchId);
+    }
+
+    @Override
+    public List<RankChange> getRecentlyMoved(String viewName, int limit) {
+        return scoreboard.getRecentlyMoved(viewName, limit);
+    }
+
+    public long getFailedPublishes() {
+        return failedPublishes;
+    }
+
+    @Override
+    public void close() {
+        writer.close();
+    }
+
+    private void publish() {
+        try {
+            writer.publish(scoreboard.getSummary());
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            failedPublishes++;
+        }
+    }
+}
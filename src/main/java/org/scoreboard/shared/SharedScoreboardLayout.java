@@ -0,0 +1,48 @@
+package org.scoreboard.shared;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the memory-mapped scoreboard region.
+ * <p>
+ * The region starts with a fixed header followed by {@code capacity} fixed-size records. Each record holds
+ * the length of one UTF-8 encoded summary line followed by its bytes. Records are guarded by a seqlock:
+ * the writer makes the sequence odd before touching records and even again once it is done, so readers
+ * retry whenever they observe an odd sequence or a sequence that changed while they were copying.
+ * <p>
+ * A non-zero stale flag tells readers that the writer could not publish the latest summary, the records still hold
+ * the last one that fit. The next successful publish clears it.
+ */
+final class SharedScoreboardLayout {
+    static final int MAGIC = 0x53434252;
+    static final int LAYOUT_VERSION = 1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int LAYOUT_VERSION_OFFSET = 4;
+    static final int CAPACITY_OFFSET = 8;
+    static final int RECORD_SIZE_OFFSET = 12;
+    static final int SEQUENCE_OFFSET = 16;
+    static final int COUNT_OFFSET = 24;
+    static final int STALE_OFFSET = 28;
+    static final int HEADER_SIZE = 32;
+
+    static final int RECORD_LENGTH_SIZE = Integer.BYTES;
+    static final int DEFAULT_RECORD_SIZE = 256;
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.nativeOrder();
+    static final VarHandle SEQUENCE = MethodHandles.byteBufferViewVarHandle(long[].class, BYTE_ORDER);
+    static final VarHandle STALE = MethodHandles.byteBufferViewVarHandle(int[].class, BYTE_ORDER);
+
+    private SharedScoreboardLayout() {
+    }
+
+    static long regionSize(int capacity, int recordSize) {
+        return HEADER_SIZE + (long) capacity * recordSize;
+    }
+
+    static int recordOffset(int index, int recordSize) {
+        return HEADER_SIZE + index * recordSize;
+    }
+}
@@ -0,0 +1,98 @@
+package org.scoreboard.shared;
+
+import org.scoreboard.model.MatchSummary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.scoreboard.shared.SharedScoreboardLayout.*;
+
+/**
+ * Reads consistent summary snapshots published by a {@link SharedScoreboardWriter}, possibly running in another JVM.
+ */
+public class SharedScoreboardReader {
+    private final MappedByteBuffer region;
+    private final int capacity;
+    private final int recordSize;
+    private final byte[] recordBuffer;
+
+    public SharedScoreboardReader(Path path) {
+        try (var channel = FileChannel.open(path, READ)) {
+            this.region = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        region.order(BYTE_ORDER);
+        if (region.capacity() < HEADER_SIZE || region.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IllegalStateException("File %s is not a shared scoreboard region".formatted(path));
+        }
+        if (region.getInt(LAYOUT_VERSION_OFFSET) != LAYOUT_VERSION) {
+            throw new IllegalStateException("Unsupported shared scoreboard layout version: %d".formatted(region.getInt(LAYOUT_VERSION_OFFSET)));
+        }
+        this.capacity = region.getInt(CAPACITY_OFFSET);
+        this.recordSize = region.getInt(RECORD_SIZE_OFFSET);
+        this.recordBuffer = new byte[recordSize - RECORD_LENGTH_SIZE];
+    }
+
+    public List<MatchSummary> readSummary() {
+        while (true) {
+            var before = (long) SEQUENCE.getAcquire(region, SEQUENCE_OFFSET);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            var summaries = copyRecords();
+            var layoutChanged = region.getInt(CAPACITY_OFFSET) != capacity || region.getInt(RECORD_SIZE_OFFSET) != recordSize;
+            VarHandle.loadLoadFence();
+            var after = (long) SEQUENCE.getOpaque(region, SEQUENCE_OFFSET);
+            if (before == after && layoutChanged) {
+                throw new IllegalStateException("Shared scoreboard region was reinitialized with another layout, reopen the reader");
+            }
+            if (summaries != null && before == after) {
+                return summaries;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Whether the writer failed to publish its latest summary, so {@link #readSummary()} returns an older one.
+     */
+    public boolean isStale() {
+        return (int) STALE.getAcquire(region, STALE_OFFSET) != 0;
+    }
+
+    public long getSequence() {
+        return (long) SEQUENCE.getAcquire(region, SEQUENCE_OFFSET);
+    }
+
+    /**
+     * Copies records without any consistency guarantee, a torn copy is detected by the caller through the
+     * sequence check. Returns {@code null} when the header or a record length is out of range mid-write.
+     */
+    private List<MatchSummary> copyRecords() {
+        var count = region.getInt(COUNT_OFFSET);
+        if (count < 0 || count > capacity) {
+            return null;
+        }
+        var summaries = new ArrayList<MatchSummary>(count);
+        for (int i = 0; i < count; i++) {
+            var offset = recordOffset(i, recordSize);
+            var length = region.getInt(offset);
+            if (length < 0 || length > recordBuffer.length) {
+                return null;
+            }
+            region.get(offset + RECORD_LENGTH_SIZE, recordBuffer, 0, length);
+            summaries.add(new MatchSummary(new String(recordBuffer, 0, length, StandardCharsets.UTF_8)));
+        }
+        return summaries;
+    }
+}
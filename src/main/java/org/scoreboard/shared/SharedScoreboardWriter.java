@@ -0,0 +1,116 @@
+package org.scoreboard.shared;
+
+import org.scoreboard.model.MatchSummary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.scoreboard.shared.SharedScoreboardLayout.*;
+
+/**
+ * Single writer publishing summaries into a memory-mapped file. Only one writer per file is supported.
+ * <p>
+ * An existing file is never truncated, since readers may still have it mapped and would fault on pages cut off
+ * from it. The writer grows the file when it needs more room and reinitializes the header under the seqlock,
+ * continuing the sequence found in the file so readers retry instead of copying records mid-reset.
+ */
+public class SharedScoreboardWriter implements AutoCloseable {
+    private final MappedByteBuffer region;
+    private final int capacity;
+    private final int recordSize;
+    private long sequence;
+
+    public SharedScoreboardWriter(Path path, int capacity) {
+        this(path, capacity, DEFAULT_RECORD_SIZE);
+    }
+
+    public SharedScoreboardWriter(Path path, int capacity, int recordSize) {
+        if (capacity <= 0 || recordSize <= RECORD_LENGTH_SIZE) {
+            throw new IllegalArgumentException("Capacity and record size must be positive, got %d and %d".formatted(capacity, recordSize));
+        }
+        this.capacity = capacity;
+        this.recordSize = recordSize;
+        try (var channel = FileChannel.open(path, CREATE, READ, WRITE)) {
+            // Mapping beyond the end of the file grows it, a larger existing file keeps its size.
+            this.region = channel.map(FileChannel.MapMode.READ_WRITE, 0, regionSize(capacity, recordSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        region.order(BYTE_ORDER);
+        initialize();
+    }
+
+    private void initialize() {
+        if (region.getInt(MAGIC_OFFSET) == MAGIC) {
+            // Round up so the reset below starts from an even sequence even after a writer died mid-publish.
+            sequence = ((long) SEQUENCE.getAcquire(region, SEQUENCE_OFFSET) + 1) & ~1L;
+        }
+        SEQUENCE.setOpaque(region, SEQUENCE_OFFSET, ++sequence);
+        VarHandle.storeStoreFence();
+        region.putInt(MAGIC_OFFSET, 0);
+        region.putInt(CAPACITY_OFFSET, capacity);
+        region.putInt(RECORD_SIZE_OFFSET, recordSize);
+        region.putInt(LAYOUT_VERSION_OFFSET, LAYOUT_VERSION);
+        region.putInt(COUNT_OFFSET, 0);
+        STALE.setOpaque(region, STALE_OFFSET, 0);
+        region.putInt(MAGIC_OFFSET, MAGIC);
+        SEQUENCE.setRelease(region, SEQUENCE_OFFSET, ++sequence);
+    }
+
+    /**
+     * Publishes a summary, or marks the region stale and throws when the summary does not fit, leaving the previous
+     * summary readable.
+     */
+    public void publish(List<MatchSummary> summaries) {
+        if (summaries.size() > capacity) {
+            markStale();
+            throw new IllegalStateException("Cannot publish %d matches, shared region holds at most %d".formatted(summaries.size(), capacity));
+        }
+        var encoded = summaries.stream()
+                .map(summary -> summary.summary().getBytes(StandardCharsets.UTF_8))
+                .toList();
+        for (var bytes : encoded) {
+            if (bytes.length > recordSize - RECORD_LENGTH_SIZE) {
+                markStale();
+                throw new IllegalArgumentException("Summary of %d bytes exceeds shared record size %d".formatted(bytes.length, recordSize));
+            }
+        }
+
+        SEQUENCE.setOpaque(region, SEQUENCE_OFFSET, ++sequence);
+        VarHandle.storeStoreFence();
+        for (int i = 0; i < encoded.size(); i++) {
+            var offset = recordOffset(i, recordSize);
+            region.putInt(offset, encoded.get(i).length);
+            region.put(offset + RECORD_LENGTH_SIZE, encoded.get(i));
+        }
+        region.putInt(COUNT_OFFSET, encoded.size());
+        STALE.setOpaque(region, STALE_OFFSET, 0);
+        SEQUENCE.setRelease(region, SEQUENCE_OFFSET, ++sequence);
+    }
+
+    public boolean isStale() {
+        return (int) STALE.getOpaque(region, STALE_OFFSET) != 0;
+    }
+
+    private void markStale() {
+        STALE.setRelease(region, STALE_OFFSET, 1);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public void close() {
+        region.force();
+    }
+}
@@ -0,0 +1,64 @@
+package org.scoreboard.startup;
+
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
+
+/**
+ * Drives a throwaway scoreboard through every call a node makes before and while serving summaries: importing,
+ * starting, scoring and finishing matches, default and view summaries, and ranks.
+ * <p>
+ * Called in-process before a node takes traffic it gets those paths loaded and compiled. Run as the main class with
+ * {@code -XX:ArchiveClassesAtExit}, as the {@code cdsArchive} Gradle task does, it makes sure every class on those
+ * paths ends up in the class-data-sharing archive.
+ */
+public class ScoreboardWarmup {
+    public static final int DEFAULT_ROUNDS = 200;
+    private static final String WARMUP_VIEW = "warmup";
+    private static final int MATCHES_PER_ROUND = 32;
+
+    public static void main(String[] args) {
+        warmUp(args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS);
+    }
+
+    /**
+     * Runs the given number of warm-up rounds and returns the default summary of the last one, empty when no round
+     * ran. Each round leaves half of its started matches live.
+     */
+    public static List<MatchSummary> warmUp(int rounds) {
+        List<MatchSummary> summary = List.of();
+        for (int round = 0; round < rounds; round++) {
+            var scoreboard = new WorldCupScoreboard(new InMemoryMatchRepository(), highestScoringMatchesFirst())
+                    .registerView(WARMUP_VIEW, mostRecentlyStartedMatchesFirst());
+            scoreboard.importMatches(IntStream.range(0, MATCHES_PER_ROUND).mapToObj(ScoreboardWarmup::finishedMatch));
+            for (int i = 0; i < MATCHES_PER_ROUND; i++) {
+                var match = scoreboard.startMatch(team("home-" + i), team("away-" + i));
+                scoreboard.updateScore(match.getMatchId(), i % 5, i % 3);
+                scoreboard.getRank(WARMUP_VIEW, match.getMatchId());
+                if (i % 2 == 0) {
+                    scoreboard.finishMatch(match.getMatchId());
+                }
+            }
+            summary = scoreboard.getSummary();
+            scoreboard.getSummary(WARMUP_VIEW);
+            scoreboard.getRecentlyMoved(WARMUP_VIEW, 10);
+        }
+        return summary;
+    }
+
+    private static Match finishedMatch(int i) {
+        return new Match("finished-" + i, team("home-" + i), team("away-" + i), i % 5, i % 3, true, i, i);
+    }
+
+    private static Team team(String teamId) {
+        return new Team(teamId, teamId, teamId);
+    }
+}
@@ -0,0 +1,64 @@
+package org.scoreboard.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Clock for high match start rates: a background ticker refreshes a cached timestamp every {@code resolution},
+ * so reading the time is a volatile load instead of a system call. Matches started within one tick are ordered
+ * by their sequence number.
+ */
+public class CoarseMatchClock implements MatchClock, AutoCloseable {
+    private final Supplier<Instant> wallClock;
+    private final ScheduledExecutorService ticker;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long currentEpochNanos;
+
+    public CoarseMatchClock(Duration resolution) {
+        this(resolution, Instant::now, Executors.newSingleThreadScheduledExecutor(task -> {
+            var thread = new Thread(task, "coarse-match-clock");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Reads the time from {@code wallClock} and schedules its ticks on {@code ticker}, which the clock shuts down
+     * on {@link #close()}. Tests pass a ticker they drive by hand.
+     */
+    CoarseMatchClock(Duration resolution, Supplier<Instant> wallClock, ScheduledExecutorService ticker) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            ticker.shutdownNow();
+            throw new IllegalArgumentException("Clock resolution must be positive, got %s".formatted(resolution));
+        }
+        this.wallClock = wallClock;
+        this.ticker = ticker;
+        this.currentEpochNanos = EpochNanos.of(wallClock.get());
+        ticker.scheduleAtFixedRate(this::tick, resolution.toNanos(), resolution.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long currentEpochNanos() {
+        return currentEpochNanos;
+    }
+
+    @Override
+    public long nextSequence() {
+        return sequence.incrementAndGet();
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        // The wall clock may step backwards, start times handed out earlier must never be passed.
+        currentEpochNanos = Math.max(currentEpochNanos, EpochNanos.of(wallClock.get()));
+    }
+}
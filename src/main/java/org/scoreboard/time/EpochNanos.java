@@ -0,0 +1,21 @@
+package org.scoreboard.time;
+
+import java.time.Instant;
+
+/**
+ * Conversions between {@link Instant} and epoch nanoseconds stored in a {@code long}, which covers years 1677-2262.
+ */
+public final class EpochNanos {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private EpochNanos() {
+    }
+
+    public static long of(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    public static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND), Math.floorMod(epochNanos, NANOS_PER_SECOND));
+    }
+}
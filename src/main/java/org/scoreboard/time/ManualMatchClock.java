@@ -0,0 +1,30 @@
+package org.scoreboard.time;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Clock which moves only when told to, for tests and reproducible benchmarks. Not thread-safe.
+ */
+public class ManualMatchClock implements MatchClock {
+    private long currentEpochNanos;
+    private long sequence;
+
+    public ManualMatchClock(Instant start) {
+        this.currentEpochNanos = EpochNanos.of(start);
+    }
+
+    @Override
+    public long currentEpochNanos() {
+        return currentEpochNanos;
+    }
+
+    @Override
+    public long nextSequence() {
+        return ++sequence;
+    }
+
+    public void advance(Duration duration) {
+        currentEpochNanos = Math.addExact(currentEpochNanos, duration.toNanos());
+    }
+}
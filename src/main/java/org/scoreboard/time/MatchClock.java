@@ -0,0 +1,15 @@
+package org.scoreboard.time;
+
+/**
+ * Source of match start times. Start times are primitive epoch nanoseconds paired with a sequence number,
+ * so matches started within the same clock tick still have a stable order.
+ */
+public interface MatchClock {
+    long currentEpochNanos();
+
+    long nextSequence();
+
+    static MatchClock system() {
+        return SystemMatchClock.INSTANCE;
+    }
+}
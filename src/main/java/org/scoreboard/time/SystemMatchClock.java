@@ -0,0 +1,23 @@
+package org.scoreboard.time;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class SystemMatchClock implements MatchClock {
+    static final SystemMatchClock INSTANCE = new SystemMatchClock();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private SystemMatchClock() {
+    }
+
+    @Override
+    public long currentEpochNanos() {
+        return EpochNanos.of(Instant.now());
+    }
+
+    @Override
+    public long nextSequence() {
+        return sequence.incrementAndGet();
+    }
+}
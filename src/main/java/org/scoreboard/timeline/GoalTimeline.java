@@ -0,0 +1,192 @@
+package org.scoreboard.timeline;
+
+import org.scoreboard.timeline.ScoreEvent.Side;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Score history of a single match kept as a byte array instead of a list of event objects.
+ * <p>
+ * Every event is two varints: the seconds elapsed since the previous event and the new score of one side
+ * shifted left by one bit with the side in the lowest bit. A goal in a typical match therefore costs three
+ * bytes. The encoding never grows beyond {@value #MAX_ENCODED_BYTES} bytes: when it is full the oldest half of
+ * the events is folded into a baseline score and queries before the retained window have no answer.
+ * Not thread-safe.
+ */
+public class GoalTimeline {
+    static final int MAX_ENCODED_BYTES = 4096;
+    private static final int INITIAL_ENCODED_BYTES = 16;
+    private static final int MAX_EVENT_BYTES = 15;
+    private static final long NANOS_PER_SECOND = 1_000_000_000;
+
+    private final long startEpochNanos;
+    private byte[] encoded = new byte[INITIAL_ENCODED_BYTES];
+    private int length;
+    private int eventCount;
+    private long baseOffsetSeconds;
+    private int baseHomeScore;
+    private int baseAwayScore;
+    private long lastOffsetSeconds;
+    private int homeScore;
+    private int awayScore;
+
+    public GoalTimeline(long startEpochNanos, int homeScore, int awayScore) {
+        this.startEpochNanos = startEpochNanos;
+        this.baseHomeScore = homeScore;
+        this.baseAwayScore = awayScore;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+    }
+
+    /**
+     * Appends events for the sides whose score differs from the latest recorded one. Timestamps are truncated to
+     * seconds and those earlier than the previous event are recorded at the time of the previous event.
+     */
+    public void record(long epochNanos, int homeScore, int awayScore) {
+        var offsetSeconds = Math.max(lastOffsetSeconds, (epochNanos - startEpochNanos) / NANOS_PER_SECOND);
+        if (homeScore != this.homeScore) {
+            append(offsetSeconds, Side.HOME, homeScore);
+            this.homeScore = homeScore;
+        }
+        if (awayScore != this.awayScore) {
+            append(offsetSeconds, Side.AWAY, awayScore);
+            this.awayScore = awayScore;
+        }
+    }
+
+    /**
+     * Returns the score {@code sinceStart} after the match started, or empty for moments before the match started
+     * or before the retained window.
+     */
+    public Optional<Score> scoreAt(Duration sinceStart) {
+        var offsetSeconds = sinceStart.toSeconds();
+        if (offsetSeconds < baseOffsetSeconds) {
+            return Optional.empty();
+        }
+        var home = baseHomeScore;
+        var away = baseAwayScore;
+        var cursor = new Cursor();
+        while (cursor.next() && cursor.offsetSeconds <= offsetSeconds) {
+            if (cursor.side == Side.HOME) {
+                home = cursor.score;
+            } else {
+                away = cursor.score;
+            }
+        }
+        return Optional.of(new Score(home, away));
+    }
+
+    /**
+     * Counts goals scored in {@code [fromEpochNanos, toEpochNanos)}. Score corrections lowering a score are not goals.
+     */
+    public int goalsBetween(long fromEpochNanos, long toEpochNanos) {
+        var goals = 0;
+        var home = baseHomeScore;
+        var away = baseAwayScore;
+        var cursor = new Cursor();
+        while (cursor.next()) {
+            var previous = cursor.side == Side.HOME ? home : away;
+            var eventEpochNanos = startEpochNanos + cursor.offsetSeconds * NANOS_PER_SECOND;
+            if (eventEpochNanos >= toEpochNanos) {
+                break;
+            }
+            if (eventEpochNanos >= fromEpochNanos && cursor.score > previous) {
+                goals += cursor.score - previous;
+            }
+            if (cursor.side == Side.HOME) {
+                home = cursor.score;
+            } else {
+                away = cursor.score;
+            }
+        }
+        return goals;
+    }
+
+    public List<ScoreEvent> events() {
+        var events = new ArrayList<ScoreEvent>(eventCount);
+        var cursor = new Cursor();
+        while (cursor.next()) {
+            events.add(new ScoreEvent(Duration.ofSeconds(cursor.offsetSeconds), cursor.side, cursor.score));
+        }
+        return events;
+    }
+
+    public int encodedBytes() {
+        return length;
+    }
+
+    private void append(long offsetSeconds, Side side, int score) {
+        if (length + MAX_EVENT_BYTES > encoded.length) {
+            if (encoded.length == MAX_ENCODED_BYTES) {
+                evictOldestHalf();
+            } else {
+                encoded = Arrays.copyOf(encoded, Math.min(encoded.length * 2, MAX_ENCODED_BYTES));
+            }
+        }
+        writeVarLong(offsetSeconds - lastOffsetSeconds);
+        writeVarLong((long) score << 1 | side.ordinal());
+        lastOffsetSeconds = offsetSeconds;
+        eventCount++;
+    }
+
+    /**
+     * Drops the oldest events. The first retained delta is relative to the last dropped event, which becomes the
+     * baseline, so the retained bytes are moved without re-encoding.
+     */
+    private void evictOldestHalf() {
+        var cursor = new Cursor();
+        for (var evicted = 0; evicted < eventCount / 2 && cursor.next(); evicted++) {
+            if (cursor.side == Side.HOME) {
+                baseHomeScore = cursor.score;
+            } else {
+                baseAwayScore = cursor.score;
+            }
+        }
+        baseOffsetSeconds = cursor.offsetSeconds;
+        System.arraycopy(encoded, cursor.position, encoded, 0, length - cursor.position);
+        length -= cursor.position;
+        eventCount -= eventCount / 2;
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            encoded[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        encoded[length++] = (byte) value;
+    }
+
+    private final class Cursor {
+        private int position;
+        private long offsetSeconds = baseOffsetSeconds;
+        private Side side;
+        private int score;
+
+        private boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            offsetSeconds += readVarLong();
+            var sideAndScore = readVarLong();
+            side = (sideAndScore & 1) == 0 ? Side.HOME : Side.AWAY;
+            score = (int) (sideAndScore >>> 1);
+            return true;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            var shift = 0;
+            byte current;
+            do {
+                current = encoded[position++];
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package org.scoreboard.timeline;
+
+public record Score(int homeScore, int awayScore) {
+}
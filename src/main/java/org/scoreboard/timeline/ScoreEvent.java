@@ -0,0 +1,14 @@
+package org.scoreboard.timeline;
+
+import java.time.Duration;
+
+/**
+ * Score change of one side of a match, {@code sinceStart} after the match started.
+ */
+public record ScoreEvent(Duration sinceStart, Side side, int score) {
+
+    public enum Side {
+        HOME,
+        AWAY
+    }
+}
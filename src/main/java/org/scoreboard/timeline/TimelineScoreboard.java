@@ -0,0 +1,136 @@
+package org.scoreboard.timeline;
+
+import org.scoreboard.exception.MatchNotFoundException;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.RankChange;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.Scoreboard;
+import org.scoreboard.service.WorldCupScoreboard;
+import org.scoreboard.time.EpochNanos;
+import org.scoreboard.time.MatchClock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Records a {@link GoalTimeline} for every match of the decorated scoreboard, so the score history survives
+ * score updates. Timelines are stamped with the scoreboard's own {@link MatchClock}, the one its matches take their
+ * start time from. Timelines of the last {@code finishedTimelineCapacity} finished matches are kept, older ones are
+ * dropped, and goal counts only look at live matches. Imported matches start their timeline from the imported score.
+ * Not thread-safe.
+ */
+public class TimelineScoreboard implements Scoreboard {
+    private final Scoreboard scoreboard;
+    private final MatchClock clock;
+    private final int finishedTimelineCapacity;
+    private final Map<String, GoalTimeline> liveTimelines = new HashMap<>();
+    private final Map<String, GoalTimeline> finishedTimelines = new LinkedHashMap<>();
+
+    public TimelineScoreboard(WorldCupScoreboard scoreboard, int finishedTimelineCapacity) {
+        if (finishedTimelineCapacity < 0) {
+            throw new IllegalArgumentException("Finished timeline capacity cannot be negative.");
+        }
+        this.scoreboard = scoreboard;
+        this.clock = scoreboard.getClock();
+        this.finishedTimelineCapacity = finishedTimelineCapacity;
+    }
+
+    @Override
+    public Match startMatch(Team homeTeam, Team awayTeam) {
+        var match = scoreboard.startMatch(homeTeam, awayTeam);
+        track(match);
+        return match;
+    }
+
+    @Override
+    public Match updateScore(String matchId, int homeScore, int awayScore) {
+        var match = scoreboard.updateScore(matchId, homeScore, awayScore);
+        var timeline = liveTimelines.get(matchId);
+        if (timeline != null) {
+            timeline.record(clock.currentEpochNanos(), match.getHomeScore(), match.getAwayScore());
+        }
+        return match;
+    }
+
+    @Override
+    public Match finishMatch(String matchId) {
+        var match = scoreboard.finishMatch(matchId);
+        var timeline = liveTimelines.remove(matchId);
+        if (timeline != null && finishedTimelineCapacity > 0) {
+            if (finishedTimelines.size() == finishedTimelineCapacity) {
+                var eldest = finishedTimelines.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+            finishedTimelines.put(matchId, timeline);
+        }
+        return match;
+    }
+
+    @Override
+    public List<Match> importMatches(Stream<Match> matches) {
+        var imported = scoreboard.importMatches(matches);
+        imported.stream()
+                .filter(match -> !match.isFinished())
+                .forEach(this::track);
+        return imported;
+    }
+
+    @Override
+    public List<MatchSummary> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    @Override
+    public List<MatchSummary> getSummary(String viewName) {
+        return scoreboard.getSummary(viewName);
+    }
+
+    @Override
+    public int getRank(String viewName, String matchId) {
+        return scoreboard.getRank(viewName, matchId);
+    }
+
+    @Override
+    public List<RankChange> getRecentlyMoved(String viewName, int limit) {
+        return scoreboard.getRecentlyMoved(viewName, limit);
+    }
+
+    public Optional<GoalTimeline> getTimeline(String matchId) {
+        var timeline = liveTimelines.get(matchId);
+        return Optional.ofNullable(timeline != null ? timeline : finishedTimelines.get(matchId));
+    }
+
+    /**
+     * Returns the score of a match {@code sinceStart} after it started, e.g. {@code Duration.ofMinutes(45)}.
+     */
+    public Optional<Score> getScoreAt(String matchId, Duration sinceStart) {
+        return getTimeline(matchId)
+                .orElseThrow(() -> new MatchNotFoundException(matchId))
+                .scoreAt(sinceStart);
+    }
+
+    /**
+     * Counts goals scored in {@code [from, to)} across all live matches.
+     */
+    public int countGoals(Instant from, Instant to) {
+        var fromEpochNanos = EpochNanos.of(from);
+        var toEpochNanos = EpochNanos.of(to);
+        var goals = 0;
+        for (var timeline : liveTimelines.values()) {
+            goals += timeline.goalsBetween(fromEpochNanos, toEpochNanos);
+        }
+        return goals;
+    }
+
+    private void track(Match match) {
+        liveTimelines.put(match.getMatchId(), new GoalTimeline(match.getStartEpochNanos(), match.getHomeScore(), match.getAwayScore()));
+    }
+}
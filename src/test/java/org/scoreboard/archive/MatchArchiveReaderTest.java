@@ -0,0 +1,150 @@
+package org.scoreboard.archive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.Team;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.scoreboard.archive.MatchArchiveWriterTest.finishedMatch;
+
+class MatchArchiveReaderTest {
+    private static final Instant FIRST_START = Instant.parse("2024-03-10T10:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    private MatchArchiveReader reader;
+
+    @BeforeEach
+    void setUp() {
+        var path = directory.resolve("history.sba");
+        try (var writer = new MatchArchiveWriter(path, 4)) {
+            for (int day = 0; day < 12; day++) {
+                var homeTeamId = day < 8 ? "team-" + day % 4 : "brazil";
+                writer.append(finishedMatch("match-" + day, homeTeamId, "team-" + (day + 1) % 4,
+                        FIRST_START.plusSeconds(86_400L * day).toString(), day, 1));
+            }
+        }
+        reader = new MatchArchiveReader(path);
+    }
+
+    @Nested
+    class Scan {
+        @Test
+        void shouldVisitAllMatchesWithoutSkippingBlocks() {
+            var matchIds = new ArrayList<String>();
+
+            var result = reader.scan(ArchiveQuery.all(), match -> matchIds.add(match.getMatchId()));
+
+            assertThat(result).isEqualTo(new ScanResult(12, 3, 0));
+            assertThat(matchIds).hasSize(12).startsWith("match-0").endsWith("match-11");
+        }
+
+        @Test
+        void shouldSkipBlocksWhoseDictionaryLacksTeam() {
+            var matches = new ArrayList<MatchView>();
+
+            var result = reader.scan(ArchiveQuery.all().withTeam("brazil"), match -> matches.add(match.snapshot()));
+
+            assertThat(result).isEqualTo(new ScanResult(4, 1, 2));
+            assertThat(matches).extracting(MatchView::getMatchId)
+                    .containsExactly("match-8", "match-9", "match-10", "match-11");
+            assertThat(matches).allMatch(MatchView::isFinished);
+        }
+
+        @Test
+        void shouldSkipBlocksOutsideStartTimeRange() {
+            var matchIds = new ArrayList<String>();
+
+            var result = reader.scan(
+                    ArchiveQuery.all().startedBetween(FIRST_START.plusSeconds(86_400L * 5), FIRST_START.plusSeconds(86_400L * 7)),
+                    match -> matchIds.add(match.getMatchId()));
+
+            assertThat(result).isEqualTo(new ScanResult(2, 1, 2));
+            assertThat(matchIds).containsExactly("match-5", "match-6");
+        }
+
+        @Test
+        void shouldCombineTeamAndStartTimeFilters() {
+            var matchIds = new ArrayList<String>();
+
+            var result = reader.scan(
+                    ArchiveQuery.all().withTeam("team-1").startedBetween(FIRST_START, FIRST_START.plusSeconds(86_400L * 4)),
+                    match -> matchIds.add(match.getMatchId()));
+
+            assertThat(result).isEqualTo(new ScanResult(2, 1, 2));
+            assertThat(matchIds).containsExactly("match-0", "match-1");
+        }
+
+        @Test
+        void shouldMatchEveryNameVariantOfTeam() {
+            var path = directory.resolve("renamed.sba");
+            try (var writer = new MatchArchiveWriter(path)) {
+                writer.append(new MatchSnapshot("match-1", new Team("brazil", "Brazil", "BRA"),
+                        new Team("spain", "Spain", "ESP"), 1, 0, true, 1, 1));
+                writer.append(new MatchSnapshot("match-2", new Team("germany", "Germany", "GER"),
+                        new Team("brazil", "Brasil", "BRA"), 0, 2, true, 2, 2));
+            }
+            var matches = new ArrayList<MatchView>();
+
+            new MatchArchiveReader(path).scan(ArchiveQuery.all().withTeam("brazil"), match -> matches.add(match.snapshot()));
+
+            assertThat(matches).extracting(MatchView::getMatchId).containsExactly("match-1", "match-2");
+            assertThat(matches.get(1).getAwayTeam().name()).isEqualTo("Brasil");
+        }
+
+        @Test
+        void shouldReturnEmptyResultForUnknownTeam() {
+            var result = reader.scan(ArchiveQuery.all().withTeam("unknown"), match -> {
+                throw new AssertionError("No match expected");
+            });
+
+            assertThat(result).isEqualTo(new ScanResult(0, 0, 3));
+        }
+
+        @Test
+        void shouldExposeDecodedColumnsThroughView() {
+            var matches = new ArrayList<MatchView>();
+
+            reader.scan(ArchiveQuery.all().withTeam("brazil"), match -> matches.add(match.snapshot()));
+
+            assertThat(matches.get(1).getHomeTeamId()).isEqualTo("brazil");
+            assertThat(matches.get(1).getAwayTeamId()).isEqualTo("team-2");
+            assertThat(matches.get(1).getHomeScore()).isEqualTo(9);
+            assertThat(matches.get(1).getAwayScore()).isEqualTo(1);
+            assertThat(matches.get(1).getStartTime()).isEqualTo(FIRST_START.plusSeconds(86_400L * 9));
+        }
+    }
+
+    @Nested
+    class Open {
+        @Test
+        void shouldRejectFileWhichIsNotArchive() throws Exception {
+            var path = directory.resolve("other.bin");
+            Files.write(path, new byte[64]);
+
+            assertThatThrownBy(() -> new MatchArchiveReader(path))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Not a match archive of version 2: " + path);
+        }
+
+        @Test
+        void shouldRejectTruncatedFile() throws Exception {
+            var path = directory.resolve("empty.bin");
+            Files.write(path, new byte[0]);
+
+            assertThatThrownBy(() -> new MatchArchiveReader(path)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
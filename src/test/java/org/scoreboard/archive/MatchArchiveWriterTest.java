@@ -0,0 +1,169 @@
+package org.scoreboard.archive;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.InMemoryMatchRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MatchArchiveWriterTest {
+    @TempDir
+    private Path directory;
+
+    @Nested
+    class Export {
+        @Test
+        void shouldArchiveOnlyFinishedMatchesOrderedByStartTime() {
+            var path = directory.resolve("history.sba");
+            var repository = new InMemoryMatchRepository();
+            repository.saveAll(List.of(
+                    finishedMatch("match-2", "brazil", "spain", "2024-03-12T10:00:00Z", 2, 1),
+                    finishedMatch("match-1", "germany", "brazil", "2024-03-10T10:00:00Z", 0, 3),
+                    new Match(new Team("france", "France", "FRA"), new Team("mexico", "Mexico", "MEX"))));
+
+            assertThat(MatchArchiveWriter.export(repository, path)).isEqualTo(2);
+
+            assertThat(readAll(path))
+                    .extracting(MatchSnapshot::getMatchId, MatchSnapshot::getHomeScore, MatchSnapshot::getAwayScore)
+                    .containsExactly(
+                            tuple("match-1", 0, 3),
+                            tuple("match-2", 2, 1));
+        }
+
+        @Test
+        void shouldEvictArchivedMatchesAndKeepLiveOnes() {
+            var path = directory.resolve("history.sba");
+            var repository = new InMemoryMatchRepository();
+            var liveMatch = new Match(new Team("france", "France", "FRA"), new Team("mexico", "Mexico", "MEX"));
+            repository.saveAll(List.of(
+                    finishedMatch("match-2", "brazil", "spain", "2024-03-12T10:00:00Z", 2, 1),
+                    finishedMatch("match-1", "germany", "brazil", "2024-03-10T10:00:00Z", 0, 3),
+                    liveMatch));
+
+            assertThat(MatchArchiveWriter.archiveAndEvict(repository, path)).isEqualTo(2);
+
+            assertThat(readAll(path)).extracting(MatchSnapshot::getMatchId).containsExactly("match-1", "match-2");
+            assertThat(repository.findAll()).containsExactly(liveMatch);
+            assertThat(repository.findFinishedMatchesByTeam("brazil")).isEmpty();
+        }
+
+        @Test
+        void shouldWriteEmptyArchiveForRepositoryWithoutFinishedMatches() {
+            var path = directory.resolve("history.sba");
+
+            assertThat(MatchArchiveWriter.export(new InMemoryMatchRepository(), path)).isZero();
+
+            assertThat(readAll(path)).isEmpty();
+        }
+    }
+
+    @Nested
+    class Append {
+        @Test
+        void shouldRoundTripEveryColumnAcrossBlocks() {
+            var path = directory.resolve("history.sba");
+            var matches = new ArrayList<MatchView>();
+            for (int i = 0; i < 10; i++) {
+                matches.add(new MatchSnapshot("match-" + i, new Team("home-" + i % 3, "Home " + i % 3, "H" + i % 3),
+                        new Team("away-" + i % 4, "Away " + i % 4, "A" + i % 4), i, 10 - i, true,
+                        Instant.parse("2024-03-10T10:00:00Z").plusSeconds(60L * i).getEpochSecond() * 1_000_000_000L, i));
+            }
+
+            try (var writer = new MatchArchiveWriter(path, 3)) {
+                matches.forEach(writer::append);
+            }
+
+            assertThat(readAll(path)).containsExactlyElementsOf(matches.stream().map(MatchView::snapshot).toList());
+        }
+
+        @Test
+        void shouldSortMatchesWithinBlockByStartTime() {
+            var path = directory.resolve("history.sba");
+
+            try (var writer = new MatchArchiveWriter(path)) {
+                writer.append(finishedMatch("match-2", "brazil", "spain", "2024-03-12T10:00:00Z", 2, 1));
+                writer.append(finishedMatch("match-1", "germany", "brazil", "2024-03-10T10:00:00Z", 0, 3));
+            }
+
+            assertThat(readAll(path)).extracting(MatchSnapshot::getMatchId).containsExactly("match-1", "match-2");
+        }
+
+        @Test
+        void shouldRoundTripTeamsWithoutNames() {
+            var path = directory.resolve("history.sba");
+            var match = new MatchSnapshot("match-1", new Team("brazil", null, null), new Team("spain", "Spain", null),
+                    1, 0, true, 0, 0);
+
+            try (var writer = new MatchArchiveWriter(path)) {
+                writer.append(match);
+            }
+
+            assertThat(readAll(path)).containsExactly(match);
+        }
+
+        @Test
+        void shouldRejectLiveMatch() {
+            var path = directory.resolve("history.sba");
+
+            try (var writer = new MatchArchiveWriter(path)) {
+                var match = new Match(new Team("france", "France", "FRA"), new Team("mexico", "Mexico", "MEX"));
+
+                assertThatThrownBy(() -> writer.append(match))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("Only finished matches can be archived, match %s is live".formatted(match.getMatchId()));
+            }
+        }
+
+        @Test
+        void shouldRejectNonPositiveBlockSize() {
+            assertThatThrownBy(() -> new MatchArchiveWriter(directory.resolve("history.sba"), 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Block size must be positive, got 0");
+        }
+
+        @Test
+        void shouldEncodeMatchesCompactly() throws Exception {
+            var path = directory.resolve("history.sba");
+
+            try (var writer = new MatchArchiveWriter(path)) {
+                for (int i = 0; i < 1_000; i++) {
+                    writer.append(finishedMatch("m" + i, "team-" + i % 32, "team-" + (i + 1) % 32,
+                            Instant.parse("2024-03-10T10:00:00Z").plusSeconds(i).toString(), i % 5, i % 3));
+                }
+            }
+
+            assertThat(Files.size(path)).isLessThan(1_000 * 16);
+        }
+    }
+
+    private static List<MatchSnapshot> readAll(Path path) {
+        var matches = new ArrayList<MatchSnapshot>();
+        new MatchArchiveReader(path).scan(ArchiveQuery.all(), match -> matches.add(match.snapshot()));
+        return matches;
+    }
+
+    static Match finishedMatch(String matchId, String homeTeamId, String awayTeamId, String startTime,
+                               int homeScore, int awayScore) {
+        return new Match(
+                matchId,
+                new Team(homeTeamId, "name", "displayName"),
+                new Team(awayTeamId, "name", "displayName"),
+                homeScore,
+                awayScore,
+                true,
+                Instant.parse(startTime));
+    }
+}
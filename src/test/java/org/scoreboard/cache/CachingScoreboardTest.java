@@ -0,0 +1,169 @@
+package org.scoreboard.cache;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.repository.MatchRepository;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
+
+class CachingScoreboardTest {
+    private static final Team HOME_TEAM = new Team("1", "Home", "HO");
+    private static final Team AWAY_TEAM = new Team("2", "Away", "AW");
+
+    private final MatchRepository matchRepository = new InMemoryMatchRepository();
+    private final CachingScoreboard scoreboard = new CachingScoreboard(
+            new WorldCupScoreboard(matchRepository, highestScoringMatchesFirst().thenComparing(mostRecentlyStartedMatchesFirst())));
+
+    @Nested
+    class GetSummary {
+        @Test
+        void shouldServeRepeatedSummaryFromCache() {
+            scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+
+            var first = scoreboard.getSummary();
+            var second = scoreboard.getSummary();
+
+            assertThat(second).isSameAs(first);
+            assertThat(scoreboard.getStatistics()).isEqualTo(new CacheStatistics(1, 1));
+        }
+
+        @Test
+        void shouldInvalidateCacheOnUpdateScore() {
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            scoreboard.getSummary();
+
+            scoreboard.updateScore(match.getMatchId(), 1, 0);
+
+            assertThat(scoreboard.getSummary()).containsExactly(new MatchSummary("Home 1 - Away 0"));
+            assertThat(scoreboard.getStatistics()).isEqualTo(new CacheStatistics(0, 2));
+        }
+
+        @Test
+        void shouldInvalidateCacheOnFinishMatch() {
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            scoreboard.getSummary();
+
+            scoreboard.finishMatch(match.getMatchId());
+
+            assertThat(scoreboard.getSummary()).isEmpty();
+        }
+
+        @Test
+        void shouldInvalidateCacheOnRepositoryChangeMadeBypassingScoreboard() {
+            scoreboard.getSummary();
+
+            matchRepository.save(new Match("match-1", HOME_TEAM, AWAY_TEAM, 2, 2, false, Instant.now()));
+
+            assertThat(scoreboard.getSummary()).containsExactly(new MatchSummary("Home 2 - Away 2"));
+        }
+
+        @Test
+        void shouldCacheEachSortingPolicyIndependently() {
+            var byStartTime = new CachingScoreboard(new WorldCupScoreboard(matchRepository, mostRecentlyStartedMatchesFirst()));
+            matchRepository.save(new Match("match-1", HOME_TEAM, AWAY_TEAM, 5, 0, false, Instant.parse("2024-03-10T10:00:00Z")));
+            matchRepository.save(new Match("match-2", new Team("3", "Spain", "SP"), new Team("4", "Brazil", "BR"), 0, 0, false, Instant.parse("2024-03-10T11:00:00Z")));
+
+            assertThat(scoreboard.getSummary()).extracting(MatchSummary::summary).containsExactly("Home 5 - Away 0", "Spain 0 - Brazil 0");
+            assertThat(byStartTime.getSummary()).extracting(MatchSummary::summary).containsExactly("Spain 0 - Brazil 0", "Home 5 - Away 0");
+            assertThat(scoreboard.getSummary()).extracting(MatchSummary::summary).containsExactly("Home 5 - Away 0", "Spain 0 - Brazil 0");
+        }
+
+        @Test
+        void shouldCacheEachViewIndependently() {
+            var delegate = mock(WorldCupScoreboard.class);
+            when(delegate.getMatchRepository()).thenReturn(matchRepository);
+            when(delegate.getSummary("by-start-time")).thenReturn(List.of(new MatchSummary("Spain 0 - Brazil 0")));
+            when(delegate.getSummary("by-goal-difference")).thenReturn(List.of(new MatchSummary("Home 5 - Away 0")));
+            var cachingScoreboard = new CachingScoreboard(delegate);
+
+            cachingScoreboard.getSummary("by-start-time");
+            cachingScoreboard.getSummary("by-goal-difference");
+            var byStartTime = cachingScoreboard.getSummary("by-start-time");
+
+            assertThat(byStartTime).containsExactly(new MatchSummary("Spain 0 - Brazil 0"));
+            verify(delegate, times(1)).getSummary("by-start-time");
+            verify(delegate, times(1)).getSummary("by-goal-difference");
+            assertThat(cachingScoreboard.getStatistics()).isEqualTo(new CacheStatistics(1, 2));
+        }
+    }
+
+    @Nested
+    class SingleFlight {
+        @Test
+        void shouldComputeSummaryOnceForConcurrentMisses() throws InterruptedException {
+            var delegate = mock(WorldCupScoreboard.class);
+            when(delegate.getMatchRepository()).thenReturn(mock(MatchRepository.class));
+            var computing = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            when(delegate.getSummary()).thenAnswer(invocation -> {
+                computing.countDown();
+                release.await();
+                return List.of(new MatchSummary("Home 0 - Away 0"));
+            });
+            var cachingScoreboard = new CachingScoreboard(delegate, true);
+            var executor = Executors.newFixedThreadPool(4);
+
+            for (int i = 0; i < 4; i++) {
+                executor.submit(() -> cachingScoreboard.getSummary());
+            }
+            computing.await();
+            release.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            verify(delegate, times(1)).getSummary();
+            assertThat(cachingScoreboard.getStatistics()).isEqualTo(new CacheStatistics(3, 1));
+        }
+
+        @Test
+        void shouldNotBlockMissOfOtherViewWhileSummaryIsComputed() throws Exception {
+            var delegate = mock(WorldCupScoreboard.class);
+            when(delegate.getMatchRepository()).thenReturn(mock(MatchRepository.class));
+            var computing = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            when(delegate.getSummary()).thenAnswer(invocation -> {
+                computing.countDown();
+                release.await();
+                return List.of();
+            });
+            when(delegate.getSummary("by-start-time")).thenReturn(List.of(new MatchSummary("Home 0 - Away 0")));
+            var cachingScoreboard = new CachingScoreboard(delegate, true);
+            var executor = Executors.newFixedThreadPool(2);
+
+            try {
+                executor.submit(() -> cachingScoreboard.getSummary());
+                computing.await();
+                var byStartTime = executor.submit(() -> cachingScoreboard.getSummary("by-start-time"));
+
+                assertThat(byStartTime.get(10, TimeUnit.SECONDS)).containsExactly(new MatchSummary("Home 0 - Away 0"));
+            } finally {
+                release.countDown();
+                executor.shutdown();
+            }
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Nested
+    class Statistics {
+        @Test
+        void shouldCalculateHitRatio() {
+            assertThat(new CacheStatistics(3, 1).hitRatio()).isEqualTo(0.75);
+            assertThat(new CacheStatistics(0, 0).hitRatio()).isZero();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.scoreboard.coalescing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.exception.DomainValidationException;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.Scoreboard;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CoalescingScoreboardTest {
+    private static final Team HOME_TEAM = new Team("1", "Home", "HO");
+    private static final Team AWAY_TEAM = new Team("2", "Away", "AW");
+
+    private final Scoreboard delegate = spy(WorldCupScoreboard.create());
+    private CoalescingScoreboard scoreboard = new CoalescingScoreboard(delegate, Duration.ofHours(1), 100);
+
+    @AfterEach
+    void tearDown() {
+        scoreboard.close();
+    }
+
+    @Nested
+    class SubmitScore {
+        @Test
+        void shouldApplyOnlyLatestScoreOnFlush() {
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+
+            scoreboard.submitScore(match.getMatchId(), 1, 0);
+            scoreboard.submitScore(match.getMatchId(), 1, 0);
+            scoreboard.submitScore(match.getMatchId(), 2, 0);
+            scoreboard.flush();
+
+            verify(delegate, times(1)).updateScore(eq(match.getMatchId()), anyInt(), anyInt());
+            assertThat(scoreboard.getSummary()).containsExactly(new MatchSummary("Home 2 - Away 0"));
+            assertThat(scoreboard.getStatistics()).isEqualTo(new CoalescingStatistics(3, 2, 0, 1, 0));
+        }
+
+        @Test
+        void shouldDropScoreEqualToAppliedOne() {
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            scoreboard.submitScore(match.getMatchId(), 1, 0);
+            scoreboard.flush();
+
+            scoreboard.submitScore(match.getMatchId(), 1, 0);
+            scoreboard.flush();
+
+            verify(delegate, times(1)).updateScore(eq(match.getMatchId()), anyInt(), anyInt());
+            assertThat(scoreboard.getStatistics().duplicates()).isEqualTo(1);
+            assertThat(scoreboard.getStatistics().coalescingRatio()).isEqualTo(0.5);
+        }
+
+        @Test
+        void shouldNotReachScoreboardBeforeFlush() {
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+
+            scoreboard.submitScore(match.getMatchId(), 1, 0);
+
+            assertThat(scoreboard.getSummary()).containsExactly(new MatchSummary("Home 0 - Away 0"));
+        }
+
+        @Test
+        void shouldFlushWhenBatchIsFull() {
+            scoreboard.close();
+            scoreboard = new CoalescingScoreboard(delegate, Duration.ofHours(1), 2);
+            var match1 = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            var match2 = scoreboard.startMatch(new Team("3", "Third", "TH"), new Team("4", "Fourth", "FO"));
+
+            scoreboard.submitScore(match1.getMatchId(), 1, 0);
+            scoreboard.submitScore(match2.getMatchId(), 0, 1);
+
+            assertThat(scoreboard.getStatistics().applied()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldFlushOnTick() throws InterruptedException {
+            scoreboard.close();
+            scoreboard = new CoalescingScoreboard(delegate, Duration.ofMillis(10), 100);
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+
+            scoreboard.submitScore(match.getMatchId(), 1, 0);
+
+            awaitStatistics(statistics -> statistics.applied() == 1);
+            assertThat(scoreboard.getSummary()).containsExactly(new MatchSummary("Home 1 - Away 0"));
+        }
+
+        @Test
+        void shouldCountScoresOfUnknownMatchAsRejected() {
+            scoreboard.submitScore("unknown", 1, 0);
+            scoreboard.flush();
+
+            assertThat(scoreboard.getStatistics().rejected()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldApplyRestOfBatchWhenScoreboardThrows() {
+            var match1 = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            var match2 = scoreboard.startMatch(new Team("3", "Third", "TH"), new Team("4", "Fourth", "FO"));
+            doThrow(new IllegalStateException("Cannot publish")).when(delegate).updateScore(match1.getMatchId(), 1, 0);
+
+            scoreboard.submitScore(match1.getMatchId(), 1, 0);
+            scoreboard.submitScore(match2.getMatchId(), 0, 1);
+            scoreboard.flush();
+
+            assertThat(scoreboard.getStatistics().rejected()).isEqualTo(1);
+            assertThat(scoreboard.getStatistics().applied()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldKeepFlushingOnTickAfterScoreboardThrows() throws InterruptedException {
+            scoreboard.close();
+            scoreboard = new CoalescingScoreboard(delegate, Duration.ofMillis(10), 100);
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            doThrow(new IllegalStateException("Cannot publish")).when(delegate).updateScore(match.getMatchId(), 1, 0);
+
+            scoreboard.submitScore(match.getMatchId(), 1, 0);
+            awaitStatistics(statistics -> statistics.rejected() == 1);
+            scoreboard.submitScore(match.getMatchId(), 2, 0);
+            awaitStatistics(statistics -> statistics.applied() == 1);
+
+            assertThat(scoreboard.getSummary()).containsExactly(new MatchSummary("Home 2 - Away 0"));
+        }
+
+        @Test
+        void shouldThrowExceptionWhenScoreIsNegative() {
+            assertThatThrownBy(() -> scoreboard.submitScore("match-1", -1, 0))
+                    .isInstanceOf(DomainValidationException.class);
+        }
+    }
+
+    @Nested
+    class DirectWrites {
+        @Test
+        void shouldDropPendingScoreOnDirectUpdate() {
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            scoreboard.submitScore(match.getMatchId(), 1, 0);
+
+            scoreboard.updateScore(match.getMatchId(), 3, 0);
+            scoreboard.flush();
+
+            assertThat(scoreboard.getSummary()).containsExactly(new MatchSummary("Home 3 - Away 0"));
+            assertThat(scoreboard.getStatistics().superseded()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldApplyPendingScoreBeforeFinishingMatch() {
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            scoreboard.submitScore(match.getMatchId(), 2, 1);
+
+            var finishedMatch = scoreboard.finishMatch(match.getMatchId());
+
+            assertThat(finishedMatch.getHomeScore()).isEqualTo(2);
+            assertThat(finishedMatch.getAwayScore()).isEqualTo(1);
+        }
+    }
+
+    private void awaitStatistics(Predicate<CoalescingStatistics> condition) throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.test(scoreboard.getStatistics()) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
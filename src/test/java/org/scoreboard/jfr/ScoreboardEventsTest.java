@@ -0,0 +1,125 @@
+package org.scoreboard.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoreboard.exception.MatchNotFoundException;
+import org.scoreboard.exception.OngoingMatchException;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.Scoreboard;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScoreboardEventsTest {
+    private static final Team HOME_TEAM = new Team("1", "Home", "HO");
+    private static final Team AWAY_TEAM = new Team("2", "Away", "AW");
+
+    private final Scoreboard scoreboard = WorldCupScoreboard.create();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldRecordScoreboardEventsWithShippedProfile() throws Exception {
+        List<RecordedEvent> events;
+        try (var recording = new Recording(scoreboardProfile())) {
+            recording.start();
+            var match = scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            scoreboard.updateScore(match.getMatchId(), 1, 0);
+            scoreboard.getSummary();
+            scoreboard.finishMatch(match.getMatchId());
+            recording.stop();
+            events = readEvents(recording);
+        }
+
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName())
+                .contains(
+                        "org.scoreboard.MatchStarted",
+                        "org.scoreboard.ScoreUpdated",
+                        "org.scoreboard.SummaryBuilt",
+                        "org.scoreboard.MatchFinished");
+        var summaryBuilt = events.stream()
+                .filter(event -> event.getEventType().getName().equals("org.scoreboard.SummaryBuilt"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(summaryBuilt.getInt("liveMatches")).isEqualTo(1);
+        assertThat(summaryBuilt.getString("view")).isEqualTo(SummaryBuiltEvent.DEFAULT_VIEW);
+        assertThat(summaryBuilt.getDuration("sortDuration").isNegative()).isFalse();
+    }
+
+    @Test
+    void shouldRecordFailedOperationsWithTheirError() throws Exception {
+        List<RecordedEvent> events;
+        try (var recording = new Recording(scoreboardProfile())) {
+            recording.start();
+            scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            assertThatThrownBy(() -> scoreboard.startMatch(HOME_TEAM, new Team("3", "Other", "OT")))
+                    .isInstanceOf(OngoingMatchException.class);
+            assertThatThrownBy(() -> scoreboard.updateScore("unknown", 1, 0))
+                    .isInstanceOf(MatchNotFoundException.class);
+            recording.stop();
+            events = readEvents(recording);
+        }
+
+        var started = eventsNamed(events, "org.scoreboard.MatchStarted");
+        assertThat(started).hasSize(2);
+        assertThat(started.get(0).getString("error")).isNull();
+        assertThat(started.get(1).getString("error")).isEqualTo(OngoingMatchException.class.getName());
+        assertThat(started.get(1).getString("matchId")).isNull();
+        assertThat(started.get(1).getString("awayTeam")).isEqualTo("3");
+        var updated = eventsNamed(events, "org.scoreboard.ScoreUpdated");
+        assertThat(updated).singleElement().satisfies(event -> {
+            assertThat(event.getString("matchId")).isEqualTo("unknown");
+            assertThat(event.getString("error")).isEqualTo(MatchNotFoundException.class.getName());
+        });
+    }
+
+    @Test
+    void shouldNotRecordScoreboardEventsUnlessEnabled() throws Exception {
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.start();
+            scoreboard.startMatch(HOME_TEAM, AWAY_TEAM);
+            scoreboard.getSummary();
+            recording.stop();
+            events = readEvents(recording);
+        }
+
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName())
+                .noneMatch(name -> name.startsWith("org.scoreboard."));
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+    }
+
+    private List<RecordedEvent> readEvents(Recording recording) throws Exception {
+        var file = directory.resolve("scoreboard.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static Configuration scoreboardProfile() throws Exception {
+        var profile = Objects.requireNonNull(ScoreboardEventsTest.class.getResourceAsStream("/jfr/scoreboard.jfc"));
+        try (var reader = new InputStreamReader(profile, StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+}
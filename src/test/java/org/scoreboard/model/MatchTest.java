@@ -3,6 +3,7 @@ package org.scoreboard.model;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.scoreboard.exception.DomainValidationException;
+import org.scoreboard.time.ManualMatchClock;
 
 import java.time.Instant;
 
@@ -32,6 +33,18 @@ class MatchTest {
             assertThat(match.getStartTime()).isAfterOrEqualTo(now);
         }
 
+        @Test
+        void shouldTakeStartTimeAndSequenceFromClock() {
+            var clock = new ManualMatchClock(Instant.parse("2024-03-10T10:00:00.123456789Z"));
+
+            var first = new Match(DUMMY_HOME_TEAM, DUMMY_AWAY_TEAM, clock);
+            var second = new Match(DUMMY_HOME_TEAM, DUMMY_AWAY_TEAM, clock);
+
+            assertThat(first.getStartTime()).isEqualTo(Instant.parse("2024-03-10T10:00:00.123456789Z"));
+            assertThat(second.getStartEpochNanos()).isEqualTo(first.getStartEpochNanos());
+            assertThat(second.getStartSequence()).isGreaterThan(first.getStartSequence());
+        }
+
         @Test
         void shouldThrowExceptionWhenHomeTeamIsNull() {
             assertThatThrownBy(() -> new Match(null, new Team("2", "Away", "Away Team")))
@@ -133,4 +146,71 @@ class MatchTest {
             assertThat(result).isEqualTo(3);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class GoalDifference {
+        @Test
+        void shouldCalculateAbsoluteGoalDifference() {
+            var match = new Match(DUMMY_HOME_TEAM, DUMMY_AWAY_TEAM);
+            match.setHomeScore(1);
+            match.setAwayScore(4);
+
+            var result = match.getGoalDifference();
+
+            assertThat(result).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class Copy {
+        @Test
+        void shouldCopyMatchIndependentlyOfOriginal() {
+            var match = new Match(DUMMY_HOME_TEAM, DUMMY_AWAY_TEAM);
+            match.setHomeScore(2);
+
+            var copy = match.copy();
+            match.setHomeScore(3);
+
+            assertThat(copy).isNotSameAs(match);
+            assertThat(copy.getMatchId()).isEqualTo(match.getMatchId());
+            assertThat(copy.getHomeScore()).isEqualTo(2);
+            assertThat(copy.getStartTime()).isEqualTo(match.getStartTime());
+        }
+    }
+
+    @Nested
+    class Snapshot {
+        @Test
+        void shouldKeepValuesOfMatchAtTimeOfSnapshot() {
+            var match = new Match(DUMMY_HOME_TEAM, DUMMY_AWAY_TEAM);
+            match.setHomeScore(2);
+
+            var snapshot = match.snapshot();
+            match.setHomeScore(3);
+            match.finishMatch();
+
+            assertThat(snapshot.getMatchId()).isEqualTo(match.getMatchId());
+            assertThat(snapshot.getHomeScore()).isEqualTo(2);
+            assertThat(snapshot.isFinished()).isFalse();
+            assertThat(snapshot.getStartTime()).isEqualTo(match.getStartTime());
+            assertThat(snapshot.snapshot()).isSameAs(snapshot);
+        }
+    }
+
+    @Nested
+    class Retain {
+        @Test
+        void shouldRetainMatchByReference() {
+            var match = new Match(DUMMY_HOME_TEAM, DUMMY_AWAY_TEAM);
+
+            assertThat(match.retain()).isSameAs(match);
+        }
+
+        @Test
+        void shouldRetainSnapshotByReference() {
+            var snapshot = new Match(DUMMY_HOME_TEAM, DUMMY_AWAY_TEAM).snapshot();
+
+            assertThat(snapshot.retain()).isSameAs(snapshot);
+        }
+    }
+}
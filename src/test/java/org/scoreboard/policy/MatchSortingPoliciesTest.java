@@ -3,20 +3,23 @@ package org.scoreboard.policy;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchView;
 import org.scoreboard.model.Team;
+import org.scoreboard.time.ManualMatchClock;
 
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.scoreboard.policy.MatchSortingPolicies.biggestGoalDifferenceFirst;
 import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
 import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
 
 class MatchSortingPoliciesTest {
     @Nested
     class HighestScoringMatchesFirst {
-        private final Comparator<Match> policy = highestScoringMatchesFirst();
+        private final Comparator<MatchView> policy = highestScoringMatchesFirst();
 
         @Test
         void shouldSortMatchesByTheScoreSumDesc() {
@@ -31,7 +34,7 @@ class MatchSortingPoliciesTest {
 
     @Nested
     class MostRecentlyStoredMatchesFirst {
-        private final Comparator<Match> policy = mostRecentlyStartedMatchesFirst();
+        private final Comparator<MatchView> policy = mostRecentlyStartedMatchesFirst();
 
         @Test
         void shouldOrderMatchesByMatchStartTimeDesc() {
@@ -42,6 +45,34 @@ class MatchSortingPoliciesTest {
                     .sorted(policy))
                     .containsExactly(secondStartedMatch, firstStartedMatch);
         }
+
+        @Test
+        void shouldOrderMatchesStartedWithinSameTickBySequenceDesc() {
+            var clock = new ManualMatchClock(Instant.parse("2024-03-10T10:00:00Z"));
+            var team1 = new Team("1", "name", "displayName");
+            var team2 = new Team("2", "name", "displayName");
+            var firstStartedMatch = new Match(team1, team2, clock);
+            var secondStartedMatch = new Match(team1, team2, clock);
+
+            assertThat(Stream.of(firstStartedMatch, secondStartedMatch)
+                    .sorted(policy))
+                    .containsExactly(secondStartedMatch, firstStartedMatch);
+        }
+    }
+
+    @Nested
+    class BiggestGoalDifferenceFirst {
+        private final Comparator<MatchView> policy = biggestGoalDifferenceFirst();
+
+        @Test
+        void shouldOrderMatchesByGoalDifferenceDesc() {
+            var closeMatch = createMatch("id-1", 4, 3, Instant.now());
+            var oneSidedMatch = createMatch("id-2", 0, 3, Instant.now());
+
+            assertThat(Stream.of(closeMatch, oneSidedMatch)
+                    .sorted(policy))
+                    .containsExactly(oneSidedMatch, closeMatch);
+        }
     }
 
     private static Match createMatch(String matchId, int homeScore, int awayScore, Instant startTime) {
@@ -0,0 +1,123 @@
+package org.scoreboard.replication;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.exception.ReadOnlyReplicaException;
+import org.scoreboard.model.Team;
+import org.scoreboard.replication.ScoreboardCommand.StartMatch;
+import org.scoreboard.replication.ScoreboardCommand.UpdateScore;
+import org.scoreboard.time.EpochNanos;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FollowerScoreboardTest {
+    private static final Team HOME_TEAM = new Team("1", "Home", "HO");
+    private static final Team AWAY_TEAM = new Team("2", "Away", "AW");
+
+    private final LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+    private final FollowerScoreboard follower = FollowerScoreboard.following(transport);
+
+    @Nested
+    class Apply {
+        @Test
+        void shouldApplyEntriesInSequenceOrder() {
+            follower.apply(new ReplicationEntry(1, new StartMatch("match-1", HOME_TEAM, AWAY_TEAM, EpochNanos.of(Instant.now()), 1)));
+            follower.apply(new ReplicationEntry(2, new UpdateScore("match-1", 3, 1)));
+
+            assertThat(follower.getLastAppliedSequence()).isEqualTo(2);
+            assertThat(follower.getSummary()).extracting("summary").containsExactly("Home 3 - Away 1");
+        }
+
+        @Test
+        void shouldIgnoreRedeliveredEntries() {
+            var start = new ReplicationEntry(1, new StartMatch("match-1", HOME_TEAM, AWAY_TEAM, EpochNanos.of(Instant.now()), 1));
+            follower.apply(start);
+
+            follower.apply(start);
+
+            assertThat(follower.getLastAppliedSequence()).isEqualTo(1);
+            assertThat(follower.getSummary()).hasSize(1);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenEntryIsMissing() {
+            follower.apply(new ReplicationEntry(1, new StartMatch("match-1", HOME_TEAM, AWAY_TEAM, EpochNanos.of(Instant.now()), 1)));
+
+            assertThatThrownBy(() -> follower.apply(new ReplicationEntry(3, new UpdateScore("match-1", 1, 0))))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("expected entry 2 but received 3");
+        }
+    }
+
+    @Nested
+    class ReplicationLag {
+        @Test
+        void shouldReportEntriesShippedButNotDelivered() {
+            transport.ship(new ReplicationEntry(1, new StartMatch("match-1", HOME_TEAM, AWAY_TEAM, EpochNanos.of(Instant.now()), 1)));
+            transport.ship(new ReplicationEntry(2, new UpdateScore("match-1", 1, 0)));
+
+            assertThat(follower.getReplicationLag()).isEqualTo(2);
+
+            transport.deliverPending();
+
+            assertThat(follower.getReplicationLag()).isZero();
+        }
+
+        @Test
+        void shouldNotDeadlockWhenLagIsReadDuringDelivery() throws InterruptedException {
+            transport.ship(new ReplicationEntry(1, new StartMatch("match-1", HOME_TEAM, AWAY_TEAM, EpochNanos.of(Instant.now()), 1)));
+            transport.deliverPending();
+            var running = new AtomicBoolean(true);
+            var monitor = new Thread(() -> {
+                while (running.get()) {
+                    follower.getReplicationLag();
+                }
+            });
+            var delivery = new Thread(() -> {
+                for (int sequence = 2; sequence < 20_000; sequence++) {
+                    transport.ship(new ReplicationEntry(sequence, new UpdateScore("match-1", sequence, 0)));
+                    transport.deliverPending();
+                }
+            });
+
+            monitor.start();
+            delivery.start();
+            delivery.join(TimeUnit.SECONDS.toMillis(30));
+            running.set(false);
+            monitor.join(TimeUnit.SECONDS.toMillis(30));
+
+            assertThat(delivery.isAlive()).isFalse();
+            assertThat(monitor.isAlive()).isFalse();
+            assertThat(follower.getLastAppliedSequence()).isEqualTo(19_999);
+        }
+    }
+
+    @Nested
+    class Mutations {
+        @Test
+        void shouldRejectStartMatch() {
+            assertThatThrownBy(() -> follower.startMatch(HOME_TEAM, AWAY_TEAM))
+                    .isInstanceOf(ReadOnlyReplicaException.class)
+                    .hasMessageContaining("startMatch");
+        }
+
+        @Test
+        void shouldRejectUpdateScore() {
+            assertThatThrownBy(() -> follower.updateScore("match-1", 1, 0))
+                    .isInstanceOf(ReadOnlyReplicaException.class)
+                    .hasMessageContaining("updateScore");
+        }
+
+        @Test
+        void shouldRejectFinishMatch() {
+            assertThatThrownBy(() -> follower.finishMatch("match-1"))
+                    .isInstanceOf(ReadOnlyReplicaException.class)
+                    .hasMessageContaining("finishMatch");
+        }
+    }
+}
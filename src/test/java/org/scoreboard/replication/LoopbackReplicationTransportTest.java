@@ -0,0 +1,83 @@
+package org.scoreboard.replication;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.model.Team;
+import org.scoreboard.replication.ScoreboardCommand.FinishMatch;
+import org.scoreboard.replication.ScoreboardCommand.StartMatch;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoopbackReplicationTransportTest {
+    private static final ReplicationEntry START = new ReplicationEntry(1, new StartMatch("match-1", new Team("1", "Home", "HO"), new Team("2", "Away", "AW"), 0, 1));
+    private static final ReplicationEntry FINISH = new ReplicationEntry(2, new FinishMatch("match-1"));
+
+    private final LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+
+    @Nested
+    class DeliverPending {
+        @Test
+        void shouldKeepServingOtherSubscribersWhenOneThrows() {
+            var delivered = new ArrayList<ReplicationEntry>();
+            transport.subscribe(entry -> {
+                throw new IllegalStateException("subscriber failed");
+            });
+            transport.subscribe(delivered::add);
+            transport.ship(START);
+            transport.ship(FINISH);
+
+            assertThatThrownBy(transport::deliverPending)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("subscriber failed");
+            assertThat(delivered).containsExactly(START, FINISH);
+        }
+
+        @Test
+        void shouldRedeliverEntriesNotAcceptedBySubscriber() {
+            var failing = new AtomicBoolean(true);
+            var delivered = new ArrayList<ReplicationEntry>();
+            transport.subscribe(entry -> {
+                if (failing.get() && entry == FINISH) {
+                    throw new IllegalStateException("subscriber failed");
+                }
+                delivered.add(entry);
+            });
+            transport.ship(START);
+            transport.ship(FINISH);
+            assertThatThrownBy(transport::deliverPending).isInstanceOf(IllegalStateException.class);
+
+            failing.set(false);
+            transport.deliverPending();
+
+            assertThat(delivered).containsExactly(START, FINISH);
+        }
+
+        @Test
+        void shouldDropEntriesOnceEverySubscriberAcceptedThem() {
+            var delivered = new ArrayList<ReplicationEntry>();
+            transport.subscribe(delivered::add);
+            transport.ship(START);
+            transport.deliverPending();
+
+            assertThat(transport.deliverPending()).isZero();
+            assertThat(delivered).containsExactly(START);
+        }
+    }
+
+    @Nested
+    class Subscribe {
+        @Test
+        void shouldRejectSubscriberJoiningAfterFirstEntryWasShipped() {
+            transport.ship(START);
+
+            assertThatThrownBy(() -> transport.subscribe(entry -> {
+            }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("after entry 1");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.scoreboard.replication;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationComponentTest {
+    private final LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+    private final ReplicatingScoreboard leader = new ReplicatingScoreboard(WorldCupScoreboard.create(), transport);
+    private final FollowerScoreboard firstFollower = FollowerScoreboard.following(transport);
+    private final FollowerScoreboard secondFollower = FollowerScoreboard.following(transport);
+
+    @Test
+    @DisplayName("Followers - should serve the same summary as the leader once the log is delivered")
+    void shouldReplicateSummaryToFollowers() throws InterruptedException {
+        var mexico = scoreboardMatch("1", "Mexico", "2", "Canada");
+        Thread.sleep(1);
+        var spain = scoreboardMatch("3", "Spain", "4", "Brazil");
+        Thread.sleep(1);
+        var germany = scoreboardMatch("5", "Germany", "6", "France");
+        leader.updateScore(mexico, 0, 5);
+        leader.updateScore(spain, 10, 2);
+        leader.finishMatch(germany);
+
+        transport.deliverPending();
+
+        assertThat(firstFollower.getSummary()).isEqualTo(leader.getSummary());
+        assertThat(secondFollower.getSummary()).isEqualTo(leader.getSummary());
+        assertThat(firstFollower.getReplicationLag()).isZero();
+        assertThat(firstFollower.getLastAppliedSequence()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Followers - should report lag and keep serving stale summary until entries arrive")
+    void shouldReportReplicationLag() {
+        var matchId = scoreboardMatch("1", "Mexico", "2", "Canada");
+        transport.deliverPending();
+
+        leader.updateScore(matchId, 1, 0);
+        leader.updateScore(matchId, 2, 0);
+
+        assertThat(firstFollower.getReplicationLag()).isEqualTo(2);
+        assertThat(firstFollower.getSummary()).extracting("summary").containsExactly("Mexico 0 - Canada 0");
+
+        transport.deliverPending();
+
+        assertThat(firstFollower.getReplicationLag()).isZero();
+        assertThat(firstFollower.getSummary()).extracting("summary").containsExactly("Mexico 2 - Canada 0");
+    }
+
+    @Test
+    @DisplayName("Followers - should replicate bulk imported matches")
+    void shouldReplicateImportedMatches() {
+        var imported = new Match("match-1", new Team("1", "Spain", "SP"), new Team("2", "Brazil", "BR"), 3, 1, false, Instant.parse("2024-03-10T10:00:00Z"));
+        leader.importMatches(Stream.of(imported));
+        imported.setHomeScore(9);
+
+        transport.deliverPending();
+
+        assertThat(firstFollower.getSummary()).extracting("summary").containsExactly("Spain 3 - Brazil 1");
+    }
+
+    private String scoreboardMatch(String homeTeamId, String homeTeamName, String awayTeamId, String awayTeamName) {
+        return leader.startMatch(
+                        new Team(homeTeamId, homeTeamName, homeTeamName.substring(0, 2).toUpperCase()),
+                        new Team(awayTeamId, awayTeamName, awayTeamName.substring(0, 2).toUpperCase()))
+                .getMatchId();
+    }
+}
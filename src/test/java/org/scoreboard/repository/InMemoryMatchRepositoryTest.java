@@ -3,13 +3,20 @@ package org.scoreboard.repository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.scoreboard.exception.ViewNotFoundException;
 import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.RankChange;
 import org.scoreboard.model.Team;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
 
 class InMemoryMatchRepositoryTest {
     private InMemoryMatchRepository repository;
@@ -46,6 +53,56 @@ class InMemoryMatchRepositoryTest {
         }
     }
 
+    @Nested
+    class SaveAllMethod {
+        @Test
+        void shouldSaveAllMatchesAndAddOnlyLiveTeamIds() {
+            var liveMatch = match("match-1", "team-1", "team-2");
+            var finishedMatch = match("match-2", "team-3", "team-4");
+            finishedMatch.finishMatch();
+
+            var result = repository.saveAll(List.of(liveMatch, finishedMatch));
+
+            assertThat(result).containsExactly(liveMatch, finishedMatch);
+            assertThat(repository.findAll()).containsExactlyInAnyOrder(liveMatch, finishedMatch);
+            assertThat(repository.isTeamParticipatingInLiveMatch("team-1")).isTrue();
+            assertThat(repository.isTeamParticipatingInLiveMatch("team-3")).isFalse();
+        }
+
+        @Test
+        void shouldRejectWholeBatchWhenMatchIdAlreadyExists() {
+            repository.save(match("match-1", "team-1", "team-2"));
+
+            assertThatThrownBy(() -> repository.saveAll(List.of(match("match-2", "team-3", "team-4"), match("match-1", "team-5", "team-6"))))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("match-1");
+            assertThat(repository.findById("match-2")).isEmpty();
+        }
+
+        @Test
+        void shouldRejectBatchWithDuplicatedMatchId() {
+            assertThatThrownBy(() -> repository.saveAll(List.of(match("match-1", "team-1", "team-2"), match("match-1", "team-3", "team-4"))))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("match-1");
+            assertThat(repository.findAll()).isEmpty();
+        }
+
+        @Test
+        void shouldBuildRegisteredIndexesFromBatch() {
+            repository.registerIndex("by-total-score", highestScoringMatchesFirst());
+            var lowScoringMatch = match("match-1", "team-1", "team-2");
+            var highScoringMatch = match("match-2", "team-3", "team-4");
+            highScoringMatch.setHomeScore(3);
+
+            repository.saveAll(List.of(lowScoringMatch, highScoringMatch));
+            repository.saveAll(List.of(match("match-3", "team-5", "team-6")));
+
+            assertThat(repository.findLiveMatchesOrderedBy("by-total-score"))
+                    .extracting(MatchSnapshot::getMatchId)
+                    .containsExactly("match-2", "match-1", "match-3");
+        }
+    }
+
     @Nested
     class PutMethod {
         @Test
@@ -93,6 +150,36 @@ class InMemoryMatchRepositoryTest {
         }
     }
 
+    @Nested
+    class RemoveFinishedMatches {
+        @Test
+        void shouldRemoveFinishedMatchesFromStorageAndHistories() {
+            repository.saveAll(List.of(
+                    finishedMatchStartedAt("match-1", "brazil", "spain", "2024-03-10T10:00:00Z"),
+                    finishedMatchStartedAt("match-2", "brazil", "germany", "2024-03-11T10:00:00Z"),
+                    match("match-3", "brazil", "france")));
+
+            assertThat(repository.removeFinishedMatches(List.of("match-1", "match-3", "unknown"))).isOne();
+
+            assertThat(repository.findById("match-1")).isEmpty();
+            assertThat(repository.findById("match-3")).isPresent();
+            assertThat(repository.findFinishedMatchesByTeam("brazil"))
+                    .extracting(Match::getMatchId)
+                    .containsExactly("match-2");
+            assertThat(repository.findFinishedMatchesByTeam("spain")).isEmpty();
+        }
+
+        @Test
+        void shouldNotChangeVersionWhenNothingIsRemoved() {
+            repository.save(match("match-1", "brazil", "spain"));
+            var version = repository.modificationVersion();
+
+            assertThat(repository.removeFinishedMatches(List.of("match-1"))).isZero();
+
+            assertThat(repository.modificationVersion()).isEqualTo(version);
+        }
+    }
+
     @Nested
     class IsTeamParticipatingInLiveMatch {
         @Test
@@ -152,6 +239,270 @@ class InMemoryMatchRepositoryTest {
         }
     }
 
+    @Nested
+    class ForEachMatchMethod {
+        @Test
+        void shouldVisitStoredMatchesWithoutCopying() {
+            var match1 = match("match-1");
+            var match2 = match("match-2");
+            repository.save(match1);
+            repository.save(match2);
+
+            var visited = new ArrayList<MatchView>();
+            repository.forEachMatch(visited::add);
+
+            assertThat(visited).containsExactlyInAnyOrder(match1, match2);
+        }
+    }
+
+    @Nested
+    class TeamLookups {
+        @Test
+        void shouldFindLiveMatchOfTeam() {
+            repository.save(match("match-1", "brazil", "spain"));
+
+            assertThat(repository.findLiveMatchByTeam("brazil"))
+                    .map(Match::getMatchId)
+                    .contains("match-1");
+            assertThat(repository.findLiveMatchByTeam("germany")).isEmpty();
+        }
+
+        @Test
+        void shouldReplaceLiveMatchOfTeamsWhenAnotherInstanceIsPut() {
+            repository.save(match("match-1", "brazil", "spain"));
+            var replacement = match("match-1", "brazil", "spain");
+            replacement.setHomeScore(2);
+
+            repository.put(replacement);
+
+            assertThat(repository.findLiveMatchByTeam("brazil")).containsSame(replacement);
+            assertThat(repository.findLiveMatchByTeam("spain")).containsSame(replacement);
+        }
+
+        @Test
+        void shouldReplaceFinishedMatchInHistoryWhenAnotherInstanceIsPut() {
+            var match = match("match-1", "brazil", "spain");
+            match.finishMatch();
+            repository.save(match);
+            var replacement = match.copy();
+
+            repository.put(replacement);
+
+            assertThat(repository.findFinishedMatchesByTeam("brazil")).singleElement().isSameAs(replacement);
+        }
+
+        @Test
+        void shouldMoveFinishedMatchIntoHistoriesOfBothTeams() {
+            var match = match("match-1", "brazil", "spain");
+            repository.save(match);
+
+            match.finishMatch();
+            repository.removeTeamsFromActiveMatches("brazil", "spain");
+            repository.put(match);
+            repository.put(match);
+
+            assertThat(repository.findLiveMatchByTeam("brazil")).isEmpty();
+            assertThat(repository.findFinishedMatchesByTeam("brazil"))
+                    .extracting(Match::getMatchId)
+                    .containsExactly("match-1");
+            assertThat(repository.findFinishedMatchesByTeam("spain"))
+                    .extracting(Match::getMatchId)
+                    .containsExactly("match-1");
+        }
+
+        @Test
+        void shouldOrderFinishedMatchesByStartTime() {
+            repository.saveAll(List.of(
+                    finishedMatchStartedAt("match-2", "brazil", "spain", "2024-03-12T10:00:00Z"),
+                    finishedMatchStartedAt("match-1", "germany", "brazil", "2024-03-10T10:00:00Z"),
+                    match("match-4", "brazil", "france")));
+            repository.save(finishedMatchStartedAt("match-3", "brazil", "mexico", "2024-03-11T10:00:00Z"));
+
+            assertThat(repository.findFinishedMatchesByTeam("brazil"))
+                    .extracting(Match::getMatchId)
+                    .containsExactly("match-1", "match-3", "match-2");
+            assertThat(repository.findLiveMatchByTeam("brazil"))
+                    .map(Match::getMatchId)
+                    .contains("match-4");
+        }
+
+        @Test
+        void shouldReturnEmptyHistoryForUnknownTeam() {
+            assertThat(repository.findFinishedMatchesByTeam("unknown")).isEmpty();
+        }
+    }
+
+    @Nested
+    class Indexes {
+        @Test
+        void shouldKeepLiveMatchesOrderedAfterScoreChanges() {
+            repository.registerIndex("by-total-score", highestScoringMatchesFirst());
+            var match1 = match("match-1", "team-1", "team-2");
+            var match2 = match("match-2", "team-3", "team-4");
+            repository.save(match1);
+            repository.save(match2);
+
+            match2.setHomeScore(2);
+            repository.put(match2);
+
+            assertThat(repository.findLiveMatchesOrderedBy("by-total-score"))
+                    .extracting(MatchSnapshot::getMatchId)
+                    .containsExactly("match-2", "match-1");
+        }
+
+        @Test
+        void shouldRemoveFinishedMatchesFromIndex() {
+            repository.registerIndex("by-total-score", highestScoringMatchesFirst());
+            var match = match("match-1");
+            repository.save(match);
+
+            match.finishMatch();
+            repository.put(match);
+
+            assertThat(repository.findLiveMatchesOrderedBy("by-total-score")).isEmpty();
+        }
+
+        @Test
+        void shouldIndexMatchesStoredBeforeRegistration() {
+            repository.save(match("match-1", "team-1", "team-2"));
+            var finishedMatch = match("match-2", "team-3", "team-4");
+            finishedMatch.finishMatch();
+            repository.save(finishedMatch);
+
+            repository.registerIndex("by-total-score", highestScoringMatchesFirst());
+
+            assertThat(repository.findLiveMatchesOrderedBy("by-total-score"))
+                    .extracting(MatchSnapshot::getMatchId)
+                    .containsExactly("match-1");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexIsNotRegistered() {
+            assertThatThrownBy(() -> repository.findLiveMatchesOrderedBy("unknown"))
+                    .isInstanceOf(ViewNotFoundException.class)
+                    .hasMessageContaining("unknown");
+        }
+    }
+
+    @Nested
+    class Ranks {
+        @BeforeEach
+        void registerIndex() {
+            repository.registerIndex("by-total-score", highestScoringMatchesFirst());
+        }
+
+        @Test
+        void shouldReturnOneBasedRankOfLiveMatch() {
+            var match1 = match("match-1", "team-1", "team-2");
+            var match2 = match("match-2", "team-3", "team-4");
+            match2.setHomeScore(1);
+            repository.save(match1);
+            repository.save(match2);
+
+            assertThat(repository.findRank("by-total-score", "match-2")).isEqualTo(1);
+            assertThat(repository.findRank("by-total-score", "match-1")).isEqualTo(2);
+        }
+
+        @Test
+        void shouldReturnZeroRankForMatchWhichIsNotLive() {
+            var match = match("match-1");
+            repository.save(match);
+            match.finishMatch();
+            repository.put(match);
+
+            assertThat(repository.findRank("by-total-score", "match-1")).isZero();
+            assertThat(repository.findRank("by-total-score", "non-existent")).isZero();
+        }
+
+        @Test
+        void shouldRecordRankChangesMostRecentFirst() {
+            var match1 = match("match-1", "team-1", "team-2");
+            var match2 = match("match-2", "team-3", "team-4");
+            var match3 = match("match-3", "team-5", "team-6");
+            repository.saveAll(List.of(match1, match2, match3));
+
+            match3.setHomeScore(1);
+            repository.put(match3);
+            match2.setHomeScore(2);
+            repository.put(match2);
+
+            assertThat(repository.findRecentRankChanges("by-total-score", 10)).containsExactly(
+                    new RankChange("match-2", 3, 1),
+                    new RankChange("match-3", 3, 1));
+            assertThat(repository.findRecentRankChanges("by-total-score", 1))
+                    .containsExactly(new RankChange("match-2", 3, 1));
+        }
+
+        @Test
+        void shouldRecordOnlyMatchWhoseOwnUpdateChangedItsRank() {
+            var match1 = match("match-1", "team-1", "team-2");
+            var match2 = match("match-2", "team-3", "team-4");
+            match1.setHomeScore(1);
+            repository.saveAll(List.of(match1, match2));
+
+            match2.setHomeScore(2);
+            repository.put(match2);
+
+            assertThat(repository.findRank("by-total-score", "match-1")).isEqualTo(2);
+            assertThat(repository.findRecentRankChanges("by-total-score", 10))
+                    .containsExactly(new RankChange("match-2", 2, 1));
+        }
+
+        @Test
+        void shouldNotRecordUpdatesWhichKeepRank() {
+            var match1 = match("match-1", "team-1", "team-2");
+            var match2 = match("match-2", "team-3", "team-4");
+            match1.setHomeScore(3);
+            repository.save(match1);
+            repository.save(match2);
+
+            match1.setAwayScore(1);
+            repository.put(match1);
+            match2.finishMatch();
+            repository.put(match2);
+
+            assertThat(repository.findRecentRankChanges("by-total-score", 10)).isEmpty();
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexIsNotRegistered() {
+            assertThatThrownBy(() -> repository.findRank("unknown", "match-1"))
+                    .isInstanceOf(ViewNotFoundException.class);
+            assertThatThrownBy(() -> repository.findRecentRankChanges("unknown", 10))
+                    .isInstanceOf(ViewNotFoundException.class);
+        }
+    }
+
+    @Nested
+    class ModificationVersion {
+        @Test
+        void shouldChangeVersionOnEveryModification() {
+            var match = match("match-1", "home-team-id", "away-team-id");
+            var initialVersion = repository.modificationVersion();
+
+            repository.save(match);
+            var afterSave = repository.modificationVersion();
+            repository.put(match);
+            var afterPut = repository.modificationVersion();
+            repository.removeTeamsFromActiveMatches("home-team-id", "away-team-id");
+            var afterRemove = repository.modificationVersion();
+
+            assertThat(List.of(initialVersion, afterSave, afterPut, afterRemove)).doesNotHaveDuplicates();
+        }
+
+        @Test
+        void shouldNotChangeVersionOnReads() {
+            repository.save(match("match-1"));
+            var version = repository.modificationVersion();
+
+            repository.findById("match-1");
+            repository.findAll();
+            repository.isTeamParticipatingInLiveMatch("home-id");
+
+            assertThat(repository.modificationVersion()).isEqualTo(version);
+        }
+    }
+
     private Match match(String matchId) {
         return new Match(
                 matchId,
@@ -173,4 +524,15 @@ class InMemoryMatchRepositoryTest {
                 false,
                 Instant.now());
     }
-}
\ No newline at end of file
+
+    private static Match finishedMatchStartedAt(String matchId, String homeTeamId, String awayTeamId, String startTime) {
+        return new Match(
+                matchId,
+                new Team(homeTeamId, "name", "displayName"),
+                new Team(awayTeamId, "name", "displayName"),
+                1,
+                0,
+                true,
+                Instant.parse(startTime));
+    }
+}
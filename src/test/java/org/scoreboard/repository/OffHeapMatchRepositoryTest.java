@@ -0,0 +1,316 @@
+package org.scoreboard.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.exception.ViewNotFoundException;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSnapshot;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.WorldCupScoreboard;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
+
+class OffHeapMatchRepositoryTest {
+    private OffHeapMatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new OffHeapMatchRepository(1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Nested
+    class SaveMethod {
+        @Test
+        void shouldSaveMatchAndAddActiveTeamIdsSuccessfully() {
+            var match = match("match-1", "home-team-id", "away-team-id");
+
+            var result = repository.save(match);
+
+            assertThat(result).isSameAs(match);
+            assertThat(repository.findById("match-1")).contains(match);
+            assertThat(repository.isTeamParticipatingInLiveMatch("home-team-id")).isTrue();
+            assertThat(repository.isTeamParticipatingInLiveMatch("away-team-id")).isTrue();
+        }
+
+        @Test
+        void shouldThrowExceptionWhenMatchIdAlreadyExists() {
+            repository.save(match("match-1", "home-team-id", "away-team-id"));
+
+            assertThatThrownBy(() -> repository.save(match("match-1", "home-team-id", "away-team-id")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("match-1");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenMatchIdIsTooLong() {
+            var matchId = "m".repeat(OffHeapMatchRepository.MAX_MATCH_ID_BYTES + 1);
+
+            assertThatThrownBy(() -> repository.save(match(matchId, "home-team-id", "away-team-id")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("exceeds");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenMemoryBudgetIsExhausted() {
+            try (var smallRepository = new OffHeapMatchRepository(1)) {
+                smallRepository.save(match("match-1", "team-1", "team-2"));
+
+                assertThatThrownBy(() -> smallRepository.save(match("match-2", "team-3", "team-4")))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("capacity: 1");
+            }
+        }
+    }
+
+    @Nested
+    class SaveAllMethod {
+        @Test
+        void shouldFindEveryMatchStoredAcrossChunks() {
+            try (var largeRepository = new OffHeapMatchRepository(200_000)) {
+                var batch = IntStream.range(0, 150_000)
+                        .mapToObj(i -> finishedMatch("match-" + i, i % 7, i % 5))
+                        .toList();
+
+                largeRepository.saveAll(batch);
+
+                assertThat(largeRepository.size()).isEqualTo(150_000);
+                assertThat(largeRepository.findById("match-0")).contains(batch.get(0));
+                assertThat(largeRepository.findById("match-70000")).contains(batch.get(70_000));
+                assertThat(largeRepository.findById("match-149999")).contains(batch.get(149_999));
+                assertThat(largeRepository.findById("match-150000")).isEmpty();
+            }
+        }
+
+        @Test
+        void shouldRejectBatchExceedingMemoryBudget() {
+            try (var smallRepository = new OffHeapMatchRepository(1)) {
+                assertThatThrownBy(() -> smallRepository.saveAll(List.of(match("match-1", "team-1", "team-2"), match("match-2", "team-3", "team-4"))))
+                        .isInstanceOf(IllegalStateException.class);
+                assertThat(smallRepository.size()).isZero();
+            }
+        }
+    }
+
+    @Nested
+    class PutMethod {
+        @Test
+        void shouldOverwriteStoredRecord() {
+            var match = match("match-1", "home-team-id", "away-team-id");
+            repository.save(match);
+
+            match.setHomeScore(3);
+            match.finishMatch();
+            repository.put(match);
+
+            assertThat(repository.findById("match-1")).contains(match);
+            assertThat(repository.size()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldReturnDetachedCopies() {
+            repository.save(match("match-1", "home-team-id", "away-team-id"));
+
+            repository.findById("match-1").orElseThrow().setHomeScore(5);
+
+            assertThat(repository.findById("match-1").orElseThrow().getHomeScore()).isZero();
+        }
+    }
+
+    @Nested
+    class ForEachMatchMethod {
+        @Test
+        void shouldVisitEveryRecordThroughReadOnlyView() {
+            var liveMatch = match("match-1", "team-1", "team-2");
+            liveMatch.setAwayScore(2);
+            var finishedMatch = match("match-2", "team-3", "team-4");
+            finishedMatch.finishMatch();
+            repository.saveAll(List.of(liveMatch, finishedMatch));
+
+            var snapshots = new ArrayList<MatchSnapshot>();
+            repository.forEachMatch(match -> snapshots.add(match.snapshot()));
+
+            assertThat(snapshots).containsExactly(liveMatch.snapshot(), finishedMatch.snapshot());
+        }
+
+        @Test
+        void shouldReuseSingleFlyweightForAllRecords() {
+            repository.saveAll(List.of(match("match-1", "team-1", "team-2"), match("match-2", "team-3", "team-4")));
+
+            var views = new HashSet<MatchView>();
+            repository.forEachMatch(views::add);
+
+            assertThat(views).hasSize(1);
+        }
+    }
+
+    @Nested
+    class TeamLookups {
+        @Test
+        void shouldFindLiveMatchOfTeam() {
+            repository.save(match("match-1", "brazil", "spain"));
+
+            assertThat(repository.findLiveMatchByTeam("brazil"))
+                    .map(Match::getMatchId)
+                    .contains("match-1");
+            assertThat(repository.findLiveMatchByTeam("germany")).isEmpty();
+        }
+
+        @Test
+        void shouldMoveFinishedMatchIntoHistoriesOfBothTeams() {
+            var match = match("match-1", "brazil", "spain");
+            repository.save(match);
+
+            match.finishMatch();
+            repository.removeTeamsFromActiveMatches("brazil", "spain");
+            repository.put(match);
+            repository.put(match);
+
+            assertThat(repository.findLiveMatchByTeam("brazil")).isEmpty();
+            assertThat(repository.findFinishedMatchesByTeam("brazil"))
+                    .extracting(Match::getMatchId)
+                    .containsExactly("match-1");
+            assertThat(repository.findFinishedMatchesByTeam("spain"))
+                    .extracting(Match::getMatchId)
+                    .containsExactly("match-1");
+        }
+
+        @Test
+        void shouldOrderFinishedMatchesByStartTime() {
+            repository.saveAll(List.of(
+                    finishedMatchStartedAt("match-2", "brazil", "spain", "2024-03-12T10:00:00Z"),
+                    finishedMatchStartedAt("match-1", "germany", "brazil", "2024-03-10T10:00:00Z"),
+                    match("match-4", "brazil", "france")));
+            repository.save(finishedMatchStartedAt("match-3", "brazil", "mexico", "2024-03-11T10:00:00Z"));
+
+            assertThat(repository.findFinishedMatchesByTeam("brazil"))
+                    .extracting(Match::getMatchId)
+                    .containsExactly("match-1", "match-3", "match-2");
+            assertThat(repository.findLiveMatchByTeam("brazil"))
+                    .map(Match::getMatchId)
+                    .contains("match-4");
+        }
+
+        @Test
+        void shouldReturnEmptyHistoryForUnknownTeam() {
+            assertThat(repository.findFinishedMatchesByTeam("unknown")).isEmpty();
+        }
+    }
+
+    @Nested
+    class Indexes {
+        @Test
+        void shouldKeepLiveMatchesOrdered() {
+            repository.registerIndex("by-total-score", highestScoringMatchesFirst());
+            var match1 = match("match-1", "team-1", "team-2");
+            var match2 = match("match-2", "team-3", "team-4");
+            repository.save(match1);
+            repository.save(match2);
+
+            match2.setAwayScore(1);
+            repository.put(match2);
+
+            assertThat(repository.findLiveMatchesOrderedBy("by-total-score"))
+                    .extracting(MatchSnapshot::getMatchId)
+                    .containsExactly("match-2", "match-1");
+        }
+
+        @Test
+        void shouldIndexOnlyLiveMatchesStoredBeforeRegistration() {
+            var lowScoringMatch = match("match-1", "team-1", "team-2");
+            var highScoringMatch = match("match-2", "team-3", "team-4");
+            highScoringMatch.setHomeScore(2);
+            repository.saveAll(List.of(lowScoringMatch, highScoringMatch, finishedMatch("match-3", 5, 5)));
+
+            repository.registerIndex("by-total-score", highestScoringMatchesFirst());
+
+            assertThat(repository.findLiveMatchesOrderedBy("by-total-score"))
+                    .extracting(MatchSnapshot::getMatchId)
+                    .containsExactly("match-2", "match-1");
+        }
+
+        @Test
+        void shouldThrowExceptionWhenIndexIsNotRegistered() {
+            assertThatThrownBy(() -> repository.findLiveMatchesOrderedBy("unknown"))
+                    .isInstanceOf(ViewNotFoundException.class);
+        }
+    }
+
+    @Nested
+    class Close {
+        @Test
+        void shouldRejectAccessAfterClose() {
+            repository.close();
+
+            assertThatThrownBy(() -> repository.findById("match-1"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("closed");
+        }
+    }
+
+    @Nested
+    class WithScoreboard {
+        @Test
+        void shouldServeSummaryOfScoreboardBackedByOffHeapStorage() {
+            var scoreboard = new WorldCupScoreboard(repository, highestScoringMatchesFirst().thenComparing(mostRecentlyStartedMatchesFirst()));
+            var match1 = scoreboard.startMatch(new Team("1", "Mexico", "ME"), new Team("2", "Canada", "CA"));
+            var match2 = scoreboard.startMatch(new Team("3", "Spain", "SP"), new Team("4", "Brazil", "BR"));
+
+            scoreboard.updateScore(match1.getMatchId(), 0, 5);
+            scoreboard.finishMatch(match2.getMatchId());
+
+            assertThat(scoreboard.getSummary()).containsExactly(new MatchSummary("Mexico 0 - Canada 5"));
+            assertThat(repository.isTeamParticipatingInLiveMatch("3")).isFalse();
+        }
+    }
+
+    private static Match match(String matchId, String homeTeamId, String awayTeamId) {
+        return new Match(
+                matchId,
+                new Team(homeTeamId, "name", "displayName"),
+                new Team(awayTeamId, "name", "displayName"),
+                0,
+                0,
+                false,
+                Instant.parse("2024-03-10T10:00:00Z"));
+    }
+
+    private static Match finishedMatch(String matchId, int homeScore, int awayScore) {
+        return new Match(
+                matchId,
+                new Team("home-" + homeScore, "name", "displayName"),
+                new Team("away-" + awayScore, "name", "displayName"),
+                homeScore,
+                awayScore,
+                true,
+                Instant.parse("2024-03-10T10:00:00Z"));
+    }
+
+    private static Match finishedMatchStartedAt(String matchId, String homeTeamId, String awayTeamId, String startTime) {
+        return new Match(
+                matchId,
+                new Team(homeTeamId, "name", "displayName"),
+                new Team(awayTeamId, "name", "displayName"),
+                1,
+                0,
+                true,
+                Instant.parse(startTime));
+    }
+}
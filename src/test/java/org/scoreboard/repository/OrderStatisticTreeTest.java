@@ -0,0 +1,84 @@
+package org.scoreboard.repository;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStatisticTreeTest {
+    private final OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+
+    @Nested
+    class Rank {
+        @Test
+        void shouldReturnNumberOfSmallerElements() {
+            List.of(30, 10, 20).forEach(tree::add);
+
+            assertThat(tree.rank(10)).isZero();
+            assertThat(tree.rank(20)).isEqualTo(1);
+            assertThat(tree.rank(30)).isEqualTo(2);
+        }
+
+        @Test
+        void shouldReturnMinusOneForMissingElement() {
+            tree.add(10);
+
+            assertThat(tree.rank(15)).isEqualTo(-1);
+        }
+
+        @Test
+        void shouldMatchSortedListAfterRandomAddsAndRemovals() {
+            var random = new Random(42);
+            var expected = new ArrayList<Integer>();
+            for (var i = 0; i < 5_000; i++) {
+                var value = random.nextInt(1_000);
+                var position = Collections.binarySearch(expected, value);
+                if (position >= 0) {
+                    tree.remove(value);
+                    expected.remove(position);
+                } else {
+                    tree.add(value);
+                    expected.add(-position - 1, value);
+                }
+            }
+
+            assertThat(tree.size()).isEqualTo(expected.size());
+            assertThat(tree.toList()).isEqualTo(expected);
+            for (var i = 0; i < expected.size(); i++) {
+                assertThat(tree.rank(expected.get(i))).isEqualTo(i);
+            }
+        }
+    }
+
+    @Nested
+    class AddAllSorted {
+        @Test
+        void shouldBuildTreeFromSortedElements() {
+            var elements = IntStream.range(0, 1_000).boxed().toList();
+
+            tree.addAllSorted(elements);
+            tree.remove(500);
+            tree.add(1_000);
+
+            assertThat(tree.size()).isEqualTo(1_000);
+            assertThat(tree.rank(501)).isEqualTo(500);
+            assertThat(tree.rank(1_000)).isEqualTo(999);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenTreeIsNotEmpty() {
+            tree.add(1);
+
+            assertThatThrownBy(() -> tree.addAllSorted(List.of(2, 3)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
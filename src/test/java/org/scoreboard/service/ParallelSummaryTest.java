@@ -0,0 +1,117 @@
+package org.scoreboard.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.MatchView;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.time.MatchClock;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
+
+class ParallelSummaryTest {
+    private static final Instant START_TIME = Instant.parse("2024-03-10T10:00:00Z");
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Nested
+    class Build {
+        @Test
+        void shouldMatchSequentialStableSortAboveThreshold() {
+            var matches = randomMatches(10_000);
+            var parallelSummary = new ParallelSummary(pool, 100);
+
+            var result = parallelSummary.build(matches, highestScoringMatchesFirst());
+
+            assertThat(result).isEqualTo(sequentialSummary(matches, highestScoringMatchesFirst()));
+        }
+
+        @Test
+        void shouldBuildSmallLiveSetSequentially() {
+            var matches = randomMatches(50);
+            var parallelSummary = new ParallelSummary(pool, 100);
+
+            var result = parallelSummary.build(matches, highestScoringMatchesFirst());
+
+            assertThat(result).isEqualTo(sequentialSummary(matches, highestScoringMatchesFirst()));
+            assertThat(pool.getStealCount()).isZero();
+        }
+
+        @Test
+        void shouldBuildSequentiallyWhenLiveSetDoesNotFillTwoChunks() {
+            var matches = randomMatches(2_047);
+            pool.shutdown();
+
+            var result = new ParallelSummary(pool, 1).build(matches, highestScoringMatchesFirst());
+
+            assertThat(result).isEqualTo(sequentialSummary(matches, highestScoringMatchesFirst()));
+        }
+
+        @Test
+        void shouldBuildEmptySummary() {
+            assertThat(new ParallelSummary(pool, 1).build(List.of(), highestScoringMatchesFirst())).isEmpty();
+        }
+
+        @Test
+        void shouldThrowExceptionWhenThresholdIsNotPositive() {
+            assertThatThrownBy(() -> new ParallelSummary(pool, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class WithScoreboard {
+        @Test
+        void shouldServeSameSummaryAsSequentialScoreboard() {
+            var sequential = WorldCupScoreboard.create();
+            var parallel = new WorldCupScoreboard(new InMemoryMatchRepository(),
+                    highestScoringMatchesFirst().thenComparing(mostRecentlyStartedMatchesFirst()), MatchClock.system(),
+                    new ParallelSummary(pool, 1));
+            var matches = randomMatches(3_000);
+
+            sequential.importMatches(matches.stream());
+            parallel.importMatches(matches.stream().map(Match::copy));
+
+            assertThat(parallel.getSummary()).isEqualTo(sequential.getSummary());
+        }
+    }
+
+    private static List<MatchSummary> sequentialSummary(List<Match> matches, Comparator<MatchView> ordering) {
+        return matches.stream()
+                .sorted(ordering)
+                .map(MatchSummary::generateSummary)
+                .toList();
+    }
+
+    private static List<Match> randomMatches(int count) {
+        var random = new Random(7);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Match(
+                        "match-" + i,
+                        new Team("home-" + i, "Home " + i, "H" + i),
+                        new Team("away-" + i, "Away " + i, "A" + i),
+                        random.nextInt(6),
+                        random.nextInt(6),
+                        false,
+                        START_TIME.plusSeconds(random.nextInt(100))))
+                .toList();
+    }
+}
@@ -5,13 +5,24 @@ import org.junit.jupiter.api.Test;
 import org.scoreboard.exception.MatchNotFoundException;
 import org.scoreboard.exception.OngoingMatchException;
 import org.scoreboard.exception.DomainValidationException;
+import org.scoreboard.exception.ViewNotFoundException;
+import org.scoreboard.model.Match;
 import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.RankChange;
 import org.scoreboard.model.Team;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.time.ManualMatchClock;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.scoreboard.policy.MatchSortingPolicies.biggestGoalDifferenceFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+import static org.scoreboard.policy.MatchSortingPolicies.mostRecentlyStartedMatchesFirst;
 
 class ScoreboardComponentTest {
     private final Scoreboard scoreboard = WorldCupScoreboard.create();
@@ -208,6 +219,101 @@ class ScoreboardComponentTest {
                 );
     }
 
+    @Test
+    @DisplayName("Get summary of view - should serve every registered view from its own ordering")
+    void shouldGetSummaryOfRegisteredViews() throws InterruptedException {
+        var scoreboard = new WorldCupScoreboard(new InMemoryMatchRepository(), highestScoringMatchesFirst())
+                .registerView("by-total-score", highestScoringMatchesFirst())
+                .registerView("by-start-time", mostRecentlyStartedMatchesFirst())
+                .registerView("by-goal-difference", biggestGoalDifferenceFirst());
+
+        var match1 = scoreboard.startMatch(createTeam("1", "Mexico"), createTeam("2", "Canada"));
+        Thread.sleep(1);
+        var match2 = scoreboard.startMatch(createTeam("3", "Spain"), createTeam("4", "Brazil"));
+        Thread.sleep(1);
+        var match3 = scoreboard.startMatch(createTeam("5", "Germany"), createTeam("6", "France"));
+        var updatedMatch1 = scoreboard.updateScore(match1.getMatchId(), 0, 5);
+        var updatedMatch2 = scoreboard.updateScore(match2.getMatchId(), 4, 3);
+        scoreboard.finishMatch(match3.getMatchId());
+
+        assertThat(scoreboard.getSummary("by-total-score"))
+                .containsExactly(MatchSummary.generateSummary(updatedMatch2), MatchSummary.generateSummary(updatedMatch1));
+        assertThat(scoreboard.getSummary("by-start-time"))
+                .containsExactly(MatchSummary.generateSummary(updatedMatch2), MatchSummary.generateSummary(updatedMatch1));
+        assertThat(scoreboard.getSummary("by-goal-difference"))
+                .containsExactly(MatchSummary.generateSummary(updatedMatch1), MatchSummary.generateSummary(updatedMatch2));
+    }
+
+    @Test
+    @DisplayName("Get summary of view - should throw ViewNotFoundException for unregistered view")
+    void shouldThrowExceptionWhenViewIsNotRegistered() {
+        assertThatThrownBy(() -> scoreboard.getSummary("unknown"))
+                .isInstanceOf(ViewNotFoundException.class)
+                .hasMessageContaining("unknown");
+    }
+
+    @Test
+    @DisplayName("Get summary - should keep start order of matches started within the same clock tick")
+    void shouldOrderMatchesStartedWithinSameTick() {
+        var clock = new ManualMatchClock(Instant.parse("2024-03-10T10:00:00Z"));
+        var scoreboard = WorldCupScoreboard.create(clock);
+
+        var match1 = scoreboard.startMatch(createTeam("1", "Mexico"), createTeam("2", "Canada"));
+        var match2 = scoreboard.startMatch(createTeam("3", "Spain"), createTeam("4", "Brazil"));
+        clock.advance(Duration.ofMinutes(1));
+        var match3 = scoreboard.startMatch(createTeam("5", "Germany"), createTeam("6", "France"));
+
+        assertThat(scoreboard.getSummary())
+                .containsExactly(
+                        MatchSummary.generateSummary(match3),
+                        MatchSummary.generateSummary(match2),
+                        MatchSummary.generateSummary(match1));
+    }
+
+    @Test
+    @DisplayName("Import matches - should bootstrap scoreboard with live and finished matches")
+    void shouldImportMatches() {
+        var scoreboard = new WorldCupScoreboard(new InMemoryMatchRepository(), highestScoringMatchesFirst())
+                .registerView("by-start-time", mostRecentlyStartedMatchesFirst());
+        var finishedMatch = new Match("match-1", createTeam("1", "Mexico"), createTeam("2", "Canada"), 0, 5, true, Instant.parse("2024-03-10T10:00:00Z"));
+        var olderMatch = new Match("match-2", createTeam("3", "Spain"), createTeam("4", "Brazil"), 10, 2, false, Instant.parse("2024-03-10T11:00:00Z"));
+        var newerMatch = new Match("match-3", createTeam("1", "Mexico"), createTeam("6", "France"), 0, 0, false, Instant.parse("2024-03-10T12:00:00Z"));
+
+        scoreboard.importMatches(Stream.of(finishedMatch, olderMatch, newerMatch));
+
+        assertThat(scoreboard.getSummary())
+                .containsExactly(MatchSummary.generateSummary(olderMatch), MatchSummary.generateSummary(newerMatch));
+        assertThat(scoreboard.getSummary("by-start-time"))
+                .containsExactly(MatchSummary.generateSummary(newerMatch), MatchSummary.generateSummary(olderMatch));
+        assertThatThrownBy(() -> scoreboard.startMatch(createTeam("3", "Spain"), createTeam("7", "Uruguay")))
+                .isInstanceOf(OngoingMatchException.class);
+    }
+
+    @Test
+    @DisplayName("Rank - should report position in view and matches which moved")
+    void shouldTrackRanksAndMovers() {
+        var clock = new ManualMatchClock(Instant.parse("2024-03-10T10:00:00Z"));
+        var scoreboard = new WorldCupScoreboard(new InMemoryMatchRepository(), highestScoringMatchesFirst(), clock)
+                .registerView("by-total-score", highestScoringMatchesFirst());
+
+        var match1 = scoreboard.startMatch(createTeam("1", "Mexico"), createTeam("2", "Canada"));
+        clock.advance(Duration.ofMinutes(1));
+        var match2 = scoreboard.startMatch(createTeam("3", "Spain"), createTeam("4", "Brazil"));
+        clock.advance(Duration.ofMinutes(1));
+        var match3 = scoreboard.startMatch(createTeam("5", "Germany"), createTeam("6", "France"));
+        scoreboard.updateScore(match1.getMatchId(), 0, 1);
+        scoreboard.updateScore(match2.getMatchId(), 3, 0);
+        scoreboard.finishMatch(match3.getMatchId());
+
+        assertThat(scoreboard.getRank("by-total-score", match2.getMatchId())).isEqualTo(1);
+        assertThat(scoreboard.getRank("by-total-score", match1.getMatchId())).isEqualTo(2);
+        assertThat(scoreboard.getRecentlyMoved("by-total-score", 1))
+                .extracting(RankChange::matchId, RankChange::currentRank)
+                .containsExactly(tuple(match2.getMatchId(), 1));
+        assertThatThrownBy(() -> scoreboard.getRank("by-total-score", match3.getMatchId()))
+                .isInstanceOf(MatchNotFoundException.class);
+    }
+
     @Test
     @DisplayName("Get summary - should return empty list when no matches")
     void shouldGetEmptySummaryWhenNoMatches() {
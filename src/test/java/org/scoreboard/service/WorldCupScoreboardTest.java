@@ -6,29 +6,40 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoreboard.exception.DomainValidationException;
 import org.scoreboard.exception.MatchNotFoundException;
 import org.scoreboard.exception.OngoingMatchException;
 import org.scoreboard.model.Match;
 import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.RankChange;
+import org.scoreboard.model.MatchView;
 import org.scoreboard.model.Team;
 import org.scoreboard.repository.MatchRepository;
+import org.scoreboard.time.MatchClock;
 
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class WorldCupScoreboardTest {
+    private static final Instant START_TIME = Instant.parse("2024-03-10T10:00:00Z");
+
     @Mock
     private MatchRepository matchRepository;
     @Mock
-    private Comparator<Match> sortingPolicy;
+    private Comparator<MatchView> sortingPolicy;
+    @Mock
+    private MatchClock clock;
 
     @InjectMocks
     private WorldCupScoreboard scoreboard;
@@ -50,6 +61,24 @@ class WorldCupScoreboardTest {
             verify(matchRepository, times(1)).save(any(Match.class));
         }
 
+        @Test
+        void shouldTakeStartTimeFromClock() {
+            var homeTeam = new Team("1", "Home", "Home Team");
+            var awayTeam = new Team("2", "Away", "Away Team");
+
+            when(clock.currentEpochNanos())
+                    .thenReturn(1_710_064_800_000_000_000L);
+            when(clock.nextSequence())
+                    .thenReturn(7L);
+            when(matchRepository.save(any()))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            var result = scoreboard.startMatch(homeTeam, awayTeam);
+
+            assertThat(result.getStartTime()).isEqualTo(START_TIME);
+            assertThat(result.getStartSequence()).isEqualTo(7L);
+        }
+
         @Test
         void shouldThrowExceptionWhenTeamAlreadyHasOngoingMatch() {
             var homeTeam = new Team("1", "Home", "Home Team");
@@ -64,6 +93,72 @@ class WorldCupScoreboardTest {
                     .isInstanceOf(OngoingMatchException.class)
                     .hasMessageContaining("2");
         }
+
+        @Test
+        void shouldNotConsumeClockWhenStartIsRejected() {
+            var homeTeam = new Team("1", "Home", "Home Team");
+            var awayTeam = new Team("2", "Away", "Away Team");
+
+            when(matchRepository.isTeamParticipatingInLiveMatch("1"))
+                    .thenReturn(true);
+
+            assertThatThrownBy(() -> scoreboard.startMatch(homeTeam, awayTeam))
+                    .isInstanceOf(OngoingMatchException.class);
+            assertThatThrownBy(() -> scoreboard.startMatch(homeTeam, homeTeam))
+                    .isInstanceOf(DomainValidationException.class);
+            verifyNoInteractions(clock);
+            verify(matchRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    class ImportMatches {
+        @Test
+        void shouldSaveWholeBatchAtOnce() {
+            var match1 = createMatch("match-1", "1", "2");
+            var match2 = createMatch("match-2", "3", "4");
+
+            when(matchRepository.saveAll(List.of(match1, match2)))
+                    .thenReturn(List.of(match1, match2));
+
+            var result = scoreboard.importMatches(Stream.of(match1, match2));
+
+            assertThat(result).containsExactly(match1, match2);
+            verify(matchRepository).saveAll(List.of(match1, match2));
+        }
+
+        @Test
+        void shouldThrowExceptionWhenTeamPlaysTwiceInBatch() {
+            var match1 = createMatch("match-1", "1", "2");
+            var match2 = createMatch("match-2", "2", "3");
+
+            assertThatThrownBy(() -> scoreboard.importMatches(Stream.of(match1, match2)))
+                    .isInstanceOf(OngoingMatchException.class)
+                    .hasMessageContaining("2");
+            verify(matchRepository, never()).saveAll(any());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenTeamAlreadyHasOngoingMatch() {
+            when(matchRepository.isTeamParticipatingInLiveMatch("1"))
+                    .thenReturn(true);
+
+            assertThatThrownBy(() -> scoreboard.importMatches(Stream.of(createMatch("match-1", "1", "2"))))
+                    .isInstanceOf(OngoingMatchException.class)
+                    .hasMessageContaining("1");
+            verify(matchRepository, never()).saveAll(any());
+        }
+
+        @Test
+        void shouldNotValidateTeamsOfFinishedMatches() {
+            var finishedMatch = createMatch("match-1", "1", "2");
+            finishedMatch.finishMatch();
+            var liveMatch = createMatch("match-2", "1", "2");
+
+            scoreboard.importMatches(Stream.of(finishedMatch, liveMatch));
+
+            verify(matchRepository).saveAll(List.of(finishedMatch, liveMatch));
+        }
     }
 
     @Nested
@@ -138,15 +233,108 @@ class WorldCupScoreboardTest {
             var match3 = createMatch("match-3");
             match3.finishMatch();
 
-            when(matchRepository.findAll())
-                    .thenReturn(List.of(match1, match2, match3));
+            doAnswer(invocation -> {
+                Consumer<MatchView> visitor = invocation.getArgument(0);
+                Stream.of(match1, match2, match3).forEach(visitor);
+                return null;
+            }).when(matchRepository).forEachMatch(any());
             when(sortingPolicy.compare(any(), any()))
                     .thenReturn(1);
 
             var result = scoreboard.getSummary();
 
             assertThat(result).containsExactly(MatchSummary.generateSummary(match1), MatchSummary.generateSummary(match2));
-            verify(matchRepository).findAll();
+            verify(matchRepository).forEachMatch(any());
+        }
+
+        @Test
+        void shouldSortStoredMatchesWithoutCopyingThem() {
+            var match = spy(createMatch("match-1"));
+            doAnswer(invocation -> {
+                Consumer<MatchView> visitor = invocation.getArgument(0);
+                visitor.accept(match);
+                return null;
+            }).when(matchRepository).forEachMatch(any());
+
+            var result = scoreboard.getSummary();
+
+            assertThat(result).containsExactly(new MatchSummary("name 0 - name 0"));
+            verify(match, never()).snapshot();
+            verify(match, never()).copy();
+        }
+
+        @Test
+        void shouldCopyFlyweightViewsBeforeCursorMovesOn() {
+            var leading = createMatch("match-1");
+            leading.setHomeScore(2);
+            var trailing = createMatch("match-2");
+            var cursor = new MatchCursor();
+            doAnswer(invocation -> {
+                Consumer<MatchView> visitor = invocation.getArgument(0);
+                for (var match : List.of(trailing, leading)) {
+                    cursor.current = match;
+                    visitor.accept(cursor);
+                }
+                return null;
+            }).when(matchRepository).forEachMatch(any());
+
+            var result = new WorldCupScoreboard(matchRepository, highestScoringMatchesFirst()).getSummary();
+
+            assertThat(result).containsExactly(MatchSummary.generateSummary(leading), MatchSummary.generateSummary(trailing));
+        }
+    }
+
+    @Nested
+    class GetSummaryOfView {
+        @Test
+        void shouldMapMatchesOrderedByRepositoryIndex() {
+            var match1 = createMatch("match-1");
+            var match2 = createMatch("match-2");
+
+            when(matchRepository.findLiveMatchesOrderedBy("by-goal-difference"))
+                    .thenReturn(List.of(match2.snapshot(), match1.snapshot()));
+
+            var result = scoreboard.getSummary("by-goal-difference");
+
+            assertThat(result).containsExactly(MatchSummary.generateSummary(match2), MatchSummary.generateSummary(match1));
+            verifyNoInteractions(sortingPolicy);
+        }
+
+        @Test
+        void shouldRegisterViewAsRepositoryIndex() {
+            scoreboard.registerView("by-goal-difference", sortingPolicy);
+
+            verify(matchRepository).registerIndex("by-goal-difference", sortingPolicy);
+        }
+    }
+
+    @Nested
+    class GetRank {
+        @Test
+        void shouldReturnRankFromRepositoryIndex() {
+            when(matchRepository.findRank("by-goal-difference", "match-1")).thenReturn(3);
+
+            assertThat(scoreboard.getRank("by-goal-difference", "match-1")).isEqualTo(3);
+        }
+
+        @Test
+        void shouldThrowExceptionIfMatchIsNotLive() {
+            when(matchRepository.findRank("by-goal-difference", "match-1")).thenReturn(0);
+
+            assertThatThrownBy(() -> scoreboard.getRank("by-goal-difference", "match-1"))
+                    .isInstanceOf(MatchNotFoundException.class)
+                    .hasMessageContaining("match-1");
+        }
+    }
+
+    @Nested
+    class GetRecentlyMoved {
+        @Test
+        void shouldReturnRankChangesFromRepositoryIndex() {
+            var changes = List.of(new RankChange("match-1", 4, 1));
+            when(matchRepository.findRecentRankChanges("by-goal-difference", 5)).thenReturn(changes);
+
+            assertThat(scoreboard.getRecentlyMoved("by-goal-difference", 5)).isEqualTo(changes);
         }
     }
 
@@ -154,6 +342,17 @@ class WorldCupScoreboardTest {
         return new Match(homeTeam, awayTeam);
     }
 
+    private Match createMatch(String matchId, String homeTeamId, String awayTeamId) {
+        return new Match(
+                matchId,
+                new Team(homeTeamId, "name", "displayName"),
+                new Team(awayTeamId, "name", "displayName"),
+                0,
+                0,
+                false,
+                START_TIME);
+    }
+
     private Match createMatch(String matchId) {
         return new Match(
                 matchId,
@@ -162,6 +361,53 @@ class WorldCupScoreboardTest {
                 0,
                 0,
                 false,
-                Instant.now());
+                START_TIME);
+    }
+
+    /**
+     * Flyweight moving over matches the way off-heap repositories visit their records.
+     */
+    private static final class MatchCursor implements MatchView {
+        private Match current;
+
+        @Override
+        public String getMatchId() {
+            return current.getMatchId();
+        }
+
+        @Override
+        public Team getHomeTeam() {
+            return current.getHomeTeam();
+        }
+
+        @Override
+        public Team getAwayTeam() {
+            return current.getAwayTeam();
+        }
+
+        @Override
+        public int getHomeScore() {
+            return current.getHomeScore();
+        }
+
+        @Override
+        public int getAwayScore() {
+            return current.getAwayScore();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return current.isFinished();
+        }
+
+        @Override
+        public long getStartEpochNanos() {
+            return current.getStartEpochNanos();
+        }
+
+        @Override
+        public long getStartSequence() {
+            return current.getStartSequence();
+        }
     }
-}
\ No newline at end of file
+}
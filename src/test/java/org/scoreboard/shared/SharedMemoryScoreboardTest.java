@@ -0,0 +1,100 @@
+package org.scoreboard.shared;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoreboard.exception.MatchNotFoundException;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.MatchSummary;
+import org.scoreboard.model.Team;
+import org.scoreboard.service.Scoreboard;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SharedMemoryScoreboardTest {
+    private static final List<MatchSummary> SUMMARY = List.of(new MatchSummary("Home 0 - Away 0"));
+
+    @Mock
+    private Scoreboard scoreboard;
+    @Mock
+    private SharedScoreboardWriter writer;
+
+    @InjectMocks
+    private SharedMemoryScoreboard sharedScoreboard;
+
+    @Nested
+    class Mutations {
+        @Test
+        void shouldPublishSummaryAfterStartMatch() {
+            var homeTeam = new Team("1", "Home", "Home Team");
+            var awayTeam = new Team("2", "Away", "Away Team");
+            when(scoreboard.getSummary()).thenReturn(SUMMARY);
+
+            sharedScoreboard.startMatch(homeTeam, awayTeam);
+
+            var inOrder = inOrder(scoreboard, writer);
+            inOrder.verify(scoreboard).startMatch(homeTeam, awayTeam);
+            inOrder.verify(writer).publish(SUMMARY);
+        }
+
+        @Test
+        void shouldPublishSummaryAfterUpdateScore() {
+            when(scoreboard.getSummary()).thenReturn(SUMMARY);
+
+            sharedScoreboard.updateScore("match-1", 1, 0);
+
+            verify(writer).publish(SUMMARY);
+        }
+
+        @Test
+        void shouldPublishSummaryAfterFinishMatch() {
+            when(scoreboard.getSummary()).thenReturn(SUMMARY);
+
+            sharedScoreboard.finishMatch("match-1");
+
+            verify(writer).publish(SUMMARY);
+        }
+
+        @Test
+        void shouldNotPublishWhenMutationFails() {
+            when(scoreboard.updateScore("match-1", 1, 0)).thenThrow(new MatchNotFoundException("match-1"));
+
+            assertThatThrownBy(() -> sharedScoreboard.updateScore("match-1", 1, 0))
+                    .isInstanceOf(MatchNotFoundException.class);
+
+            verifyNoInteractions(writer);
+        }
+
+        @Test
+        void shouldReturnStartedMatchWhenSummaryDoesNotFitIntoRegion() {
+            var homeTeam = new Team("1", "Home", "Home Team");
+            var awayTeam = new Team("2", "Away", "Away Team");
+            var match = new Match(homeTeam, awayTeam);
+            when(scoreboard.startMatch(homeTeam, awayTeam)).thenReturn(match);
+            when(scoreboard.getSummary()).thenReturn(SUMMARY);
+            doThrow(new IllegalStateException("Cannot publish")).when(writer).publish(SUMMARY);
+
+            assertThat(sharedScoreboard.startMatch(homeTeam, awayTeam)).isSameAs(match);
+            assertThat(sharedScoreboard.getFailedPublishes()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldCountEveryFailedPublish() {
+            when(scoreboard.getSummary()).thenReturn(SUMMARY);
+            doThrow(new IllegalArgumentException("Too long")).when(writer).publish(SUMMARY);
+
+            sharedScoreboard.updateScore("match-1", 1, 0);
+            sharedScoreboard.finishMatch("match-1");
+
+            assertThat(sharedScoreboard.getFailedPublishes()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.scoreboard.shared;
+
+import org.scoreboard.model.MatchSummary;
+
+import java.nio.file.Path;
+
+/**
+ * Entry point started in a separate JVM by {@link SharedScoreboardReaderTest}, prints the shared summary line by line.
+ */
+public class SharedScoreboardReaderProcess {
+    public static void main(String[] args) {
+        new SharedScoreboardReader(Path.of(args[0])).readSummary().stream()
+                .map(MatchSummary::summary)
+                .forEach(System.out::println);
+    }
+}
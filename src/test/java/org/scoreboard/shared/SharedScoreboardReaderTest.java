@@ -0,0 +1,225 @@
+package org.scoreboard.shared;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.scoreboard.model.MatchSummary;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SharedScoreboardReaderTest {
+    @TempDir
+    private Path directory;
+
+    @Nested
+    class ReadSummary {
+        @Test
+        void shouldReadPublishedSummary() {
+            var path = directory.resolve("scoreboard.shm");
+            var summaries = List.of(new MatchSummary("Spain 10 - Brazil 2"), new MatchSummary("Mexico 0 - Canada 5"));
+
+            try (var writer = new SharedScoreboardWriter(path, 16)) {
+                writer.publish(summaries);
+
+                var reader = new SharedScoreboardReader(path);
+
+                assertThat(reader.readSummary()).isEqualTo(summaries);
+                assertThat(reader.getSequence()).isEqualTo(writer.getSequence());
+            }
+        }
+
+        @Test
+        void shouldReadEmptySummaryBeforeFirstPublish() {
+            var path = directory.resolve("scoreboard.shm");
+
+            try (var ignored = new SharedScoreboardWriter(path, 16)) {
+                assertThat(new SharedScoreboardReader(path).readSummary()).isEmpty();
+            }
+        }
+
+        @Test
+        void shouldNeverObserveTornSnapshotWhileWriterPublishes() throws InterruptedException {
+            var path = directory.resolve("scoreboard.shm");
+            var running = new AtomicBoolean(true);
+            var failure = new AtomicReference<List<MatchSummary>>();
+
+            try (var writer = new SharedScoreboardWriter(path, 64)) {
+                writer.publish(snapshot(0));
+                var reader = new SharedScoreboardReader(path);
+                var readerThread = new Thread(() -> {
+                    while (running.get()) {
+                        var summary = reader.readSummary();
+                        var round = summary.get(0).summary().split(" ")[1];
+                        if (!summary.stream().allMatch(line -> line.summary().split(" ")[1].equals(round))) {
+                            failure.set(summary);
+                        }
+                    }
+                });
+                readerThread.start();
+                for (int round = 1; round < 20_000; round++) {
+                    writer.publish(snapshot(round));
+                }
+                running.set(false);
+                readerThread.join();
+            }
+
+            assertThat(failure.get()).isNull();
+        }
+
+        @Test
+        void shouldRejectFileWhichIsNotSharedScoreboard() throws Exception {
+            var path = directory.resolve("other.bin");
+            java.nio.file.Files.write(path, new byte[64]);
+
+            assertThatThrownBy(() -> new SharedScoreboardReader(path))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("not a shared scoreboard region");
+        }
+    }
+
+    @Nested
+    class Reopen {
+        @Test
+        void shouldResetRegionForMappedReadersWithoutTruncatingFile() throws Exception {
+            var path = directory.resolve("scoreboard.shm");
+            var firstWriter = new SharedScoreboardWriter(path, 16);
+            firstWriter.publish(List.of(new MatchSummary("Spain 10 - Brazil 2")));
+            firstWriter.close();
+            var reader = new SharedScoreboardReader(path);
+            var size = java.nio.file.Files.size(path);
+
+            try (var writer = new SharedScoreboardWriter(path, 16)) {
+                assertThat(java.nio.file.Files.size(path)).isEqualTo(size);
+                assertThat(writer.getSequence()).isGreaterThan(firstWriter.getSequence());
+                assertThat(reader.readSummary()).isEmpty();
+                assertThat(reader.getSequence()).isEqualTo(writer.getSequence());
+            }
+        }
+
+        @Test
+        void shouldGrowFileButNeverShrinkIt() throws Exception {
+            var path = directory.resolve("scoreboard.shm");
+            new SharedScoreboardWriter(path, 4).close();
+
+            new SharedScoreboardWriter(path, 16).close();
+            var grownSize = java.nio.file.Files.size(path);
+            try (var writer = new SharedScoreboardWriter(path, 4)) {
+                writer.publish(List.of(new MatchSummary("Mexico 0 - Canada 5")));
+            }
+
+            assertThat(grownSize).isEqualTo(SharedScoreboardLayout.regionSize(16, SharedScoreboardLayout.DEFAULT_RECORD_SIZE));
+            assertThat(java.nio.file.Files.size(path)).isEqualTo(grownSize);
+            assertThat(new SharedScoreboardReader(path).readSummary()).containsExactly(new MatchSummary("Mexico 0 - Canada 5"));
+        }
+
+        @Test
+        void shouldRejectReadOfRegionReinitializedWithAnotherLayout() {
+            var path = directory.resolve("scoreboard.shm");
+            new SharedScoreboardWriter(path, 16).close();
+            var reader = new SharedScoreboardReader(path);
+
+            try (var ignored = new SharedScoreboardWriter(path, 8)) {
+                assertThatThrownBy(reader::readSummary)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("Shared scoreboard region was reinitialized with another layout, reopen the reader");
+            }
+        }
+    }
+
+    @Nested
+    class Publish {
+        @Test
+        void shouldThrowExceptionWhenSummaryExceedsCapacity() {
+            try (var writer = new SharedScoreboardWriter(directory.resolve("scoreboard.shm"), 2)) {
+                assertThatThrownBy(() -> writer.publish(snapshot(1)))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("at most 2");
+            }
+        }
+
+        @Test
+        void shouldThrowExceptionWhenSummaryExceedsRecordSize() {
+            try (var writer = new SharedScoreboardWriter(directory.resolve("scoreboard.shm"), 2, 16)) {
+                assertThatThrownBy(() -> writer.publish(List.of(new MatchSummary("Argentina 3 - Australia 1"))))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("exceeds shared record size");
+            }
+        }
+    }
+
+    @Nested
+    class Staleness {
+        @Test
+        void shouldKeepPreviousSummaryAndMarkRegionStaleWhenPublishFails() {
+            var path = directory.resolve("scoreboard.shm");
+            var summaries = List.of(new MatchSummary("Spain 10 - Brazil 2"));
+
+            try (var writer = new SharedScoreboardWriter(path, 2)) {
+                writer.publish(summaries);
+                var reader = new SharedScoreboardReader(path);
+
+                assertThatThrownBy(() -> writer.publish(snapshot(1))).isInstanceOf(IllegalStateException.class);
+
+                assertThat(reader.isStale()).isTrue();
+                assertThat(writer.isStale()).isTrue();
+                assertThat(reader.readSummary()).isEqualTo(summaries);
+            }
+        }
+
+        @Test
+        void shouldClearStaleFlagOnNextSuccessfulPublish() {
+            var path = directory.resolve("scoreboard.shm");
+
+            try (var writer = new SharedScoreboardWriter(path, 2, 16)) {
+                var reader = new SharedScoreboardReader(path);
+                assertThatThrownBy(() -> writer.publish(List.of(new MatchSummary("Argentina 3 - Australia 1"))))
+                        .isInstanceOf(IllegalArgumentException.class);
+
+                writer.publish(List.of(new MatchSummary("ES 1 - CL 0")));
+
+                assertThat(reader.isStale()).isFalse();
+            }
+        }
+    }
+
+    @Nested
+    class MultiProcess {
+        @Test
+        void shouldReadSummaryFromAnotherJvm() throws Exception {
+            var path = directory.resolve("scoreboard.shm");
+            var summaries = List.of(new MatchSummary("Uruguay 6 - Italy 6"), new MatchSummary("Spain 10 - Brazil 2"));
+
+            try (var writer = new SharedScoreboardWriter(path, 16)) {
+                writer.publish(summaries);
+
+                var process = new ProcessBuilder(
+                        Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-cp", System.getProperty("java.class.path"),
+                        SharedScoreboardReaderProcess.class.getName(),
+                        path.toString())
+                        .redirectErrorStream(true)
+                        .start();
+
+                assertThat(process.waitFor(30, TimeUnit.SECONDS)).isTrue();
+                var output = new String(process.getInputStream().readAllBytes()).lines().toList();
+
+                assertThat(process.exitValue()).isZero();
+                assertThat(output).containsExactly("Uruguay 6 - Italy 6", "Spain 10 - Brazil 2");
+            }
+        }
+    }
+
+    private static List<MatchSummary> snapshot(int round) {
+        return IntStream.range(0, 8)
+                .mapToObj(i -> new MatchSummary("Team%d %d - Team%d %d".formatted(i, round, i + 8, round)))
+                .toList();
+    }
+}
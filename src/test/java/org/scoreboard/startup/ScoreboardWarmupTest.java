@@ -0,0 +1,27 @@
+package org.scoreboard.startup;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.model.MatchSummary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreboardWarmupTest {
+
+    @Nested
+    class WarmUp {
+        @Test
+        void shouldReturnSummaryOfLiveMatchesFromLastRound() {
+            var summary = ScoreboardWarmup.warmUp(3);
+
+            assertThat(summary).hasSize(16);
+            assertThat(summary.get(0)).isEqualTo(new MatchSummary("home-29 4 - away-29 2"));
+            assertThat(summary.get(summary.size() - 1)).isEqualTo(new MatchSummary("home-15 0 - away-15 0"));
+        }
+
+        @Test
+        void shouldReturnEmptySummaryWhenNoRoundRuns() {
+            assertThat(ScoreboardWarmup.warmUp(0)).isEmpty();
+        }
+    }
+}
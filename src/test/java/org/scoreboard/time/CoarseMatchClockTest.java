@@ -0,0 +1,107 @@
+package org.scoreboard.time;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CoarseMatchClockTest {
+    private static final Instant START_TIME = Instant.parse("2024-03-10T10:00:00Z");
+
+    @Mock
+    private ScheduledExecutorService ticker;
+
+    private Instant wallTime;
+
+    @BeforeEach
+    void setUp() {
+        wallTime = START_TIME;
+    }
+
+    @Nested
+    class CurrentEpochNanos {
+        @Test
+        void shouldStartAtWallClock() {
+            try (var clock = new CoarseMatchClock(Duration.ofMillis(1), () -> wallTime, ticker)) {
+                assertThat(clock.currentEpochNanos()).isEqualTo(EpochNanos.of(START_TIME));
+            }
+        }
+
+        @Test
+        void shouldKeepCachedTimeUntilNextTick() {
+            try (var clock = new CoarseMatchClock(Duration.ofMillis(1), () -> wallTime, ticker)) {
+                var tick = scheduledTick(Duration.ofMillis(1));
+
+                wallTime = START_TIME.plusMillis(5);
+
+                assertThat(clock.currentEpochNanos()).isEqualTo(EpochNanos.of(START_TIME));
+
+                tick.run();
+
+                assertThat(clock.currentEpochNanos()).isEqualTo(EpochNanos.of(START_TIME.plusMillis(5)));
+            }
+        }
+
+        @Test
+        void shouldNotMoveBackwardsWhenWallClockSteppedBack() {
+            try (var clock = new CoarseMatchClock(Duration.ofMillis(1), () -> wallTime, ticker)) {
+                var tick = scheduledTick(Duration.ofMillis(1));
+
+                wallTime = START_TIME.minusSeconds(1);
+                tick.run();
+
+                assertThat(clock.currentEpochNanos()).isEqualTo(EpochNanos.of(START_TIME));
+            }
+        }
+
+        @Test
+        void shouldThrowExceptionWhenResolutionIsNotPositive() {
+            assertThatThrownBy(() -> new CoarseMatchClock(Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Close {
+        @Test
+        void shouldStopTicker() {
+            new CoarseMatchClock(Duration.ofMillis(1), () -> wallTime, ticker).close();
+
+            verify(ticker).shutdownNow();
+        }
+    }
+
+    @Nested
+    class NextSequence {
+        @Test
+        void shouldIncreaseWithinSameTick() {
+            try (var clock = new CoarseMatchClock(Duration.ofHours(1), () -> wallTime, ticker)) {
+                var first = clock.nextSequence();
+                var second = clock.nextSequence();
+
+                assertThat(second).isGreaterThan(first);
+            }
+        }
+    }
+
+    private Runnable scheduledTick(Duration resolution) {
+        var tick = ArgumentCaptor.forClass(Runnable.class);
+        verify(ticker).scheduleAtFixedRate(
+                tick.capture(), eq(resolution.toNanos()), eq(resolution.toNanos()), eq(TimeUnit.NANOSECONDS));
+        return tick.getValue();
+    }
+}
@@ -0,0 +1,24 @@
+package org.scoreboard.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpochNanosTest {
+    @Test
+    void shouldConvertInstantBothWays() {
+        var instant = Instant.parse("2024-03-10T10:00:00.123456789Z");
+
+        assertThat(EpochNanos.toInstant(EpochNanos.of(instant))).isEqualTo(instant);
+    }
+
+    @Test
+    void shouldConvertInstantBeforeEpoch() {
+        var instant = Instant.parse("1969-12-31T23:59:59.999999999Z");
+
+        assertThat(EpochNanos.of(instant)).isEqualTo(-1);
+        assertThat(EpochNanos.toInstant(-1)).isEqualTo(instant);
+    }
+}
@@ -0,0 +1,105 @@
+package org.scoreboard.timeline;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.timeline.ScoreEvent.Side;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GoalTimelineTest {
+    private static final long START = 1_000_000_000_000L;
+    private static final long NANOS_PER_MINUTE = Duration.ofMinutes(1).toNanos();
+
+    private final GoalTimeline timeline = new GoalTimeline(START, 0, 0);
+
+    @Nested
+    class Record {
+        @Test
+        void shouldRecordEventForEverySideWhichChanged() {
+            timeline.record(START + 10 * NANOS_PER_MINUTE, 1, 0);
+            timeline.record(START + 20 * NANOS_PER_MINUTE, 2, 1);
+            timeline.record(START + 30 * NANOS_PER_MINUTE, 2, 1);
+
+            assertThat(timeline.events()).containsExactly(
+                    new ScoreEvent(Duration.ofMinutes(10), Side.HOME, 1),
+                    new ScoreEvent(Duration.ofMinutes(20), Side.HOME, 2),
+                    new ScoreEvent(Duration.ofMinutes(20), Side.AWAY, 1));
+        }
+
+        @Test
+        void shouldNotMoveBackInTime() {
+            timeline.record(START + 10 * NANOS_PER_MINUTE, 1, 0);
+            timeline.record(START + 5 * NANOS_PER_MINUTE, 1, 1);
+
+            assertThat(timeline.events())
+                    .extracting(ScoreEvent::sinceStart)
+                    .containsExactly(Duration.ofMinutes(10), Duration.ofMinutes(10));
+        }
+
+        @Test
+        void shouldEncodeGoalInFewBytes() {
+            timeline.record(START + 89 * NANOS_PER_MINUTE, 1, 0);
+
+            assertThat(timeline.encodedBytes()).isEqualTo(3);
+        }
+
+        @Test
+        void shouldKeepMemoryBoundedAndAnswerRecentQueries() {
+            for (var goal = 1; goal <= 10_000; goal++) {
+                timeline.record(START + goal * NANOS_PER_MINUTE, goal, 0);
+            }
+
+            assertThat(timeline.encodedBytes()).isLessThanOrEqualTo(GoalTimeline.MAX_ENCODED_BYTES);
+            assertThat(timeline.scoreAt(Duration.ofMinutes(9_999))).contains(new Score(9_999, 0));
+            assertThat(timeline.scoreAt(Duration.ofMinutes(1))).isEmpty();
+        }
+    }
+
+    @Nested
+    class ScoreAt {
+        @Test
+        void shouldReturnScoreAtGivenMinute() {
+            timeline.record(START + 10 * NANOS_PER_MINUTE, 1, 0);
+            timeline.record(START + 40 * NANOS_PER_MINUTE, 1, 1);
+
+            assertThat(timeline.scoreAt(Duration.ZERO)).contains(new Score(0, 0));
+            assertThat(timeline.scoreAt(Duration.ofMinutes(10))).contains(new Score(1, 0));
+            assertThat(timeline.scoreAt(Duration.ofMinutes(39))).contains(new Score(1, 0));
+            assertThat(timeline.scoreAt(Duration.ofMinutes(90))).contains(new Score(1, 1));
+        }
+
+        @Test
+        void shouldReturnEmptyBeforeMatchStarted() {
+            assertThat(timeline.scoreAt(Duration.ofMinutes(-1))).isEmpty();
+        }
+
+        @Test
+        void shouldStartFromInitialScore() {
+            var importedTimeline = new GoalTimeline(START, 2, 3);
+
+            assertThat(importedTimeline.scoreAt(Duration.ofMinutes(1))).contains(new Score(2, 3));
+        }
+    }
+
+    @Nested
+    class GoalsBetween {
+        @Test
+        void shouldCountGoalsInsideWindow() {
+            timeline.record(START + 10 * NANOS_PER_MINUTE, 1, 0);
+            timeline.record(START + 20 * NANOS_PER_MINUTE, 1, 1);
+            timeline.record(START + 30 * NANOS_PER_MINUTE, 2, 1);
+
+            assertThat(timeline.goalsBetween(START + 10 * NANOS_PER_MINUTE, START + 30 * NANOS_PER_MINUTE)).isEqualTo(2);
+        }
+
+        @Test
+        void shouldNotCountScoreCorrections() {
+            timeline.record(START + 10 * NANOS_PER_MINUTE, 2, 0);
+            timeline.record(START + 11 * NANOS_PER_MINUTE, 1, 0);
+
+            assertThat(timeline.goalsBetween(START, START + 90 * NANOS_PER_MINUTE)).isEqualTo(2);
+        }
+    }
+}
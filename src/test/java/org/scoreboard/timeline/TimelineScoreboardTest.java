@@ -0,0 +1,129 @@
+package org.scoreboard.timeline;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.scoreboard.exception.MatchNotFoundException;
+import org.scoreboard.model.Match;
+import org.scoreboard.model.Team;
+import org.scoreboard.repository.InMemoryMatchRepository;
+import org.scoreboard.service.WorldCupScoreboard;
+import org.scoreboard.time.ManualMatchClock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.scoreboard.policy.MatchSortingPolicies.highestScoringMatchesFirst;
+
+class TimelineScoreboardTest {
+    private static final Instant KICK_OFF = Instant.parse("2024-03-10T10:00:00Z");
+
+    private final ManualMatchClock clock = new ManualMatchClock(KICK_OFF);
+    private final TimelineScoreboard scoreboard = new TimelineScoreboard(
+            new WorldCupScoreboard(new InMemoryMatchRepository(), highestScoringMatchesFirst(), clock),
+            2);
+
+    @Nested
+    class GetScoreAt {
+        @Test
+        void shouldReturnScoreAtMinuteOfMatch() {
+            var match = scoreboard.startMatch(team("1"), team("2"));
+            clock.advance(Duration.ofMinutes(30));
+            scoreboard.updateScore(match.getMatchId(), 1, 0);
+            clock.advance(Duration.ofMinutes(30));
+            scoreboard.updateScore(match.getMatchId(), 1, 1);
+
+            assertThat(scoreboard.getScoreAt(match.getMatchId(), Duration.ofMinutes(45))).contains(new Score(1, 0));
+            assertThat(scoreboard.getScoreAt(match.getMatchId(), Duration.ofMinutes(60))).contains(new Score(1, 1));
+        }
+
+        @Test
+        void shouldKeepTimelineOfFinishedMatch() {
+            var match = scoreboard.startMatch(team("1"), team("2"));
+            clock.advance(Duration.ofMinutes(10));
+            scoreboard.updateScore(match.getMatchId(), 0, 1);
+            scoreboard.finishMatch(match.getMatchId());
+
+            assertThat(scoreboard.getScoreAt(match.getMatchId(), Duration.ofMinutes(90))).contains(new Score(0, 1));
+        }
+
+        @Test
+        void shouldDropOldestFinishedTimelineBeyondCapacity() {
+            var match1 = scoreboard.startMatch(team("1"), team("2"));
+            var match2 = scoreboard.startMatch(team("3"), team("4"));
+            var match3 = scoreboard.startMatch(team("5"), team("6"));
+            scoreboard.finishMatch(match1.getMatchId());
+            scoreboard.finishMatch(match2.getMatchId());
+            scoreboard.finishMatch(match3.getMatchId());
+
+            assertThat(scoreboard.getTimeline(match1.getMatchId())).isEmpty();
+            assertThat(scoreboard.getTimeline(match2.getMatchId())).isPresent();
+            assertThat(scoreboard.getTimeline(match3.getMatchId())).isPresent();
+        }
+
+        @Test
+        void shouldDropTimelineOnFinishWithoutCapacity() {
+            var scoreboard = new TimelineScoreboard(
+                    new WorldCupScoreboard(new InMemoryMatchRepository(), highestScoringMatchesFirst(), clock),
+                    0);
+            var match = scoreboard.startMatch(team("1"), team("2"));
+            scoreboard.finishMatch(match.getMatchId());
+
+            assertThatThrownBy(() -> scoreboard.getScoreAt(match.getMatchId(), Duration.ZERO))
+                    .isInstanceOf(MatchNotFoundException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForUnknownMatch() {
+            assertThatThrownBy(() -> scoreboard.getScoreAt("unknown", Duration.ZERO))
+                    .isInstanceOf(MatchNotFoundException.class);
+        }
+    }
+
+    @Nested
+    class CountGoals {
+        @Test
+        void shouldCountGoalsOfLiveMatchesInWindow() {
+            var match1 = scoreboard.startMatch(team("1"), team("2"));
+            var match2 = scoreboard.startMatch(team("3"), team("4"));
+            var match3 = scoreboard.startMatch(team("5"), team("6"));
+            clock.advance(Duration.ofMinutes(5));
+            scoreboard.updateScore(match1.getMatchId(), 1, 0);
+            clock.advance(Duration.ofMinutes(10));
+            scoreboard.updateScore(match2.getMatchId(), 2, 1);
+            scoreboard.updateScore(match3.getMatchId(), 1, 0);
+            scoreboard.finishMatch(match3.getMatchId());
+
+            assertThat(scoreboard.countGoals(KICK_OFF.plus(Duration.ofMinutes(10)), KICK_OFF.plus(Duration.ofMinutes(20))))
+                    .isEqualTo(3);
+        }
+
+        @Test
+        void shouldStartImportedMatchesFromImportedScore() {
+            var imported = new Match("match-1", team("1"), team("2"), 2, 0, false, KICK_OFF);
+            scoreboard.importMatches(Stream.of(imported));
+            clock.advance(Duration.ofMinutes(1));
+            scoreboard.updateScore("match-1", 3, 0);
+
+            assertThat(scoreboard.countGoals(KICK_OFF, KICK_OFF.plus(Duration.ofHours(2)))).isEqualTo(1);
+            assertThat(scoreboard.getScoreAt("match-1", Duration.ZERO)).contains(new Score(2, 0));
+        }
+    }
+
+    @Nested
+    class Create {
+        @Test
+        void shouldRejectNegativeFinishedTimelineCapacity() {
+            var worldCupScoreboard = new WorldCupScoreboard(new InMemoryMatchRepository(), highestScoringMatchesFirst(), clock);
+
+            assertThatThrownBy(() -> new TimelineScoreboard(worldCupScoreboard, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static Team team(String id) {
+        return new Team(id, "Team " + id, "T" + id);
+    }
+}